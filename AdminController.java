@@ -1,7 +1,6 @@
 package com.example.demo.controller;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -16,15 +15,22 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.demo.config.DatabaseHealthIndicator;
 import com.example.demo.config.DatabaseHealthIndicator.DatabaseHealthStatus;
-import com.example.demo.model.Employee;
-import com.example.demo.model.Leave;
+import com.example.demo.service.ConnectionPoolSampler;
+import com.example.demo.service.DashboardSnapshotService;
+import com.example.demo.service.DashboardSnapshotService.DashboardSnapshot;
+import com.example.demo.service.DatabaseCircuitBreaker;
+import com.example.demo.service.DatabaseConcurrencyLimiter;
 import com.example.demo.service.DatabaseConnectionService;
-import com.example.demo.service.EmployeeService;
-import com.example.demo.service.LeaveService;
+import com.example.demo.service.DepartmentIntegrityService;
+import com.example.demo.service.DepartmentIntegrityService.IntegrityReport;
+import com.example.demo.service.EmployeeContactIndex;
+import com.example.demo.service.PayslipService;
+import com.example.demo.service.PayslipService.BulkPayslipResult;
 
 import jakarta.validation.Valid;
 
@@ -40,10 +46,7 @@ public class AdminController {
     private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
     
     @Autowired
-    private EmployeeService employeeService;
-    
-    @Autowired
-    private LeaveService leaveService;
+    private DashboardSnapshotService dashboardSnapshotService;
     
     @Autowired
     private DatabaseHealthIndicator databaseHealthIndicator;
@@ -51,32 +54,48 @@ public class AdminController {
     @Autowired
     private DatabaseConnectionService databaseConnectionService;
     
+    @Autowired
+    private DatabaseCircuitBreaker databaseCircuitBreaker;
+    
+    @Autowired
+    private DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    
+    @Autowired
+    private ConnectionPoolSampler connectionPoolSampler;
+    
+    @Autowired
+    private PayslipService payslipService;
+    
+    @Autowired
+    private EmployeeContactIndex employeeContactIndex;
+    
+    @Autowired
+    private DepartmentIntegrityService departmentIntegrityService;
+    
     /**
      * Get dashboard overview data
      * Requirement 7.1: Admin dashboard with real-time data
+     * Served from the in-memory dashboard snapshot; snapshotAgeMs reports how old the figures are
      */
     @GetMapping("/dashboard")
     public ResponseEntity<Map<String, Object>> getDashboardData() {
         logger.info("Fetching admin dashboard data");
         
         try {
+            DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot();
             Map<String, Object> dashboardData = new HashMap<>();
             
-            // Get total employees count
-            List<Employee> allEmployees = employeeService.getAllEmployee();
-            dashboardData.put("totalEmployees", allEmployees.size());
-            
-            // Get pending leaves count
-            List<Leave> pendingLeaves = leaveService.getAllPendingLeaves();
-            dashboardData.put("pendingLeaves", pendingLeaves.size());
-            
-            // Get database connection status
-            DatabaseHealthStatus healthStatus = databaseHealthIndicator.health();
-            dashboardData.put("databaseStatus", healthStatus.getStatus());
-            dashboardData.put("databaseHealthy", healthStatus.isHealthy());
+            dashboardData.put("totalEmployees", snapshot.getTotalEmployees());
+            dashboardData.put("pendingLeaves", snapshot.getPendingLeaves());
+            dashboardData.put("departmentHeadcount", snapshot.getDepartmentHeadcount());
+            dashboardData.put("payroll", snapshot.getPayroll());
+            dashboardData.put("databaseStatus", snapshot.getDatabaseStatus());
+            dashboardData.put("databaseHealthy", snapshot.isDatabaseHealthy());
+            dashboardData.put("snapshotGeneratedAt", snapshot.getGeneratedAt().toString());
+            dashboardData.put("snapshotAgeMs", snapshot.getAgeMs());
             
             logger.info("Successfully fetched dashboard data: {} employees, {} pending leaves", 
-                       allEmployees.size(), pendingLeaves.size());
+                       snapshot.getTotalEmployees(), snapshot.getPendingLeaves());
             
             return ResponseEntity.ok(dashboardData);
             
@@ -108,10 +127,14 @@ public class AdminController {
             poolStatus.put("status", healthStatus.getStatus());
             poolStatus.put("healthy", healthStatus.isHealthy());
             poolStatus.put("details", healthStatus.getDetails());
+            poolStatus.put("checkedAt", healthStatus.getCheckedAt().toString());
+            poolStatus.put("ageMs", healthStatus.getAgeMs());
             
-            // Test connection
-            boolean connectionTest = databaseConnectionService.testConnection();
-            poolStatus.put("connectionTest", connectionTest);
+            // Connection test result of the last background probe
+            poolStatus.put("connectionTest", healthStatus.isHealthy());
+            poolStatus.put("pool", connectionPoolSampler.getCurrentPoolStats());
+            poolStatus.put("circuitBreaker", databaseCircuitBreaker.getStats());
+            poolStatus.put("concurrencyLimiter", databaseConcurrencyLimiter.getStats());
             
             logger.info("Database pool status: {}", healthStatus.getStatus());
             
@@ -158,6 +181,51 @@ public class AdminController {
         }
     }
     
+    /**
+     * Probe database health now instead of waiting for the next background probe
+     * Requests arriving within the minimum refresh interval share the latest result
+     */
+    @PostMapping("/database/health/refresh")
+    public ResponseEntity<Map<String, Object>> refreshDatabaseHealth() {
+        logger.info("Refreshing database health from admin");
+        DatabaseHealthStatus healthStatus = databaseHealthIndicator.refresh();
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("status", healthStatus.getStatus());
+        result.put("healthy", healthStatus.isHealthy());
+        result.put("details", healthStatus.getDetails());
+        result.put("checkedAt", healthStatus.getCheckedAt().toString());
+        result.put("ageMs", healthStatus.getAgeMs());
+        
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * Get the sampled connection pool time series with peak active, waiting and acquisition times
+     */
+    @GetMapping("/database/pool-history")
+    public ResponseEntity<Map<String, Object>> getDatabasePoolHistory() {
+        return ResponseEntity.ok(connectionPoolSampler.getHistory());
+    }
+    
+    /**
+     * Get database circuit breaker state, failure rate and transition counts
+     */
+    @GetMapping("/database/circuit-breaker")
+    public ResponseEntity<Map<String, Object>> getCircuitBreakerStatus() {
+        return ResponseEntity.ok(databaseCircuitBreaker.getStats());
+    }
+    
+    /**
+     * Force the database circuit breaker closed
+     */
+    @PostMapping("/database/circuit-breaker/reset")
+    public ResponseEntity<Map<String, Object>> resetCircuitBreaker() {
+        logger.info("Resetting database circuit breaker from admin");
+        databaseCircuitBreaker.reset();
+        return ResponseEntity.ok(databaseCircuitBreaker.getStats());
+    }
+    
     /**
      * Get database information
      * Requirement 5.1: Database connectivity monitoring
@@ -175,6 +243,8 @@ public class AdminController {
             info.put("status", healthStatus.getStatus());
             info.put("healthy", healthStatus.isHealthy());
             info.put("details", healthStatus.getDetails());
+            info.put("checkedAt", healthStatus.getCheckedAt().toString());
+            info.put("ageMs", healthStatus.getAgeMs());
             
             logger.info("Database info retrieved successfully");
             
@@ -193,6 +263,49 @@ public class AdminController {
         }
     }
     
+    /**
+     * Generate payslips for all employees for the current month
+     * Returns per-chunk success/error details of the bulk run
+     */
+    @PostMapping("/payslips/generate")
+    public ResponseEntity<BulkPayslipResult> generateMonthlyPayslips() {
+        logger.info("Starting bulk payslip generation from admin");
+        BulkPayslipResult result = payslipService.calculateAndSavePayslips();
+        logger.info("Bulk payslip generation finished: {} generated, {} skipped, {} failed", 
+                   result.getGenerated(), result.getSkipped(), result.getFailed());
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * Get the employee/department integrity report
+     * Served from the periodically recomputed report unless refresh=true is given
+     */
+    @GetMapping("/department-integrity")
+    public ResponseEntity<IntegrityReport> getDepartmentIntegrityReport(
+            @RequestParam(value = "refresh", defaultValue = "false") boolean refresh) {
+        logger.info("Fetching department integrity report (refresh: {})", refresh);
+        IntegrityReport report = refresh ? departmentIntegrityService.refresh() : departmentIntegrityService.getReport();
+        return ResponseEntity.ok(report);
+    }
+    
+    /**
+     * Get statistics of the in-memory email/phone contact index
+     */
+    @GetMapping("/contact-index")
+    public ResponseEntity<Map<String, Object>> getContactIndexStats() {
+        return ResponseEntity.ok(employeeContactIndex.getStats());
+    }
+    
+    /**
+     * Rebuild the contact index from the database, dropping values of deleted or changed employees
+     */
+    @PostMapping("/contact-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildContactIndex() {
+        logger.info("Rebuilding contact index from admin");
+        employeeContactIndex.rebuild();
+        return ResponseEntity.ok(employeeContactIndex.getStats());
+    }
+    
     /**
      * Admin login with hardcoded credentials
      * Provides secure admin access with predefined username and password
@@ -0,0 +1,117 @@
+package com.example.demo.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Executors for database work outside the request thread.
+ * databaseExecutor runs the operations of DatabaseConnectionService.executeWithRetryAsync; with
+ * platform threads its size should not exceed the connection pool, and its bounded queue rejects work
+ * instead of letting a backlog grow during an outage. With spring.threads.virtual.enabled (Java 21)
+ * every operation gets a virtual thread and DatabaseConcurrencyLimiter bounds pool usage instead.
+ * databaseRetryScheduler only schedules retry attempts, so waiting for a retry holds no thread.
+ * jobThreadFactory creates the threads of background jobs such as department migrations.
+ * taskScheduler runs the @Scheduled jobs (health probe, pool sampler, contact index, department integrity,
+ * dashboard). Without it Spring would pick databaseRetryScheduler, the only ScheduledExecutorService bean,
+ * and a long contact-index rebuild or a probe blocked on getConnection() would delay every other job.
+ */
+@Configuration
+public class AsyncDatabaseConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AsyncDatabaseConfig.class);
+    
+    @Value("${app.database.async.pool-size:10}")
+    private int poolSize;
+    
+    @Value("${app.database.async.queue-capacity:500}")
+    private int queueCapacity;
+    
+    // One thread per @Scheduled job, so a slow job never delays the others
+    @Value("${app.scheduling.pool-size:5}")
+    private int schedulingPoolSize;
+    
+    @Bean(name = "databaseExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService databaseExecutor() {
+        int threads = Math.max(1, poolSize);
+        logger.info("Async database executor: {} threads, queue capacity {}", threads, queueCapacity);
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(Math.max(1, queueCapacity)), namedThreads("db-async-"));
+    }
+    
+    @Bean(name = "databaseExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualDatabaseExecutor() {
+        logger.info("Async database executor: virtual threads");
+        return new VirtualThreadTaskExecutor("db-async-");
+    }
+    
+    @Bean(name = "jobThreadFactory")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadFactory jobThreadFactory() {
+        return namedThreads("job-");
+    }
+    
+    @Bean(name = "jobThreadFactory")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ThreadFactory virtualJobThreadFactory() {
+        return new VirtualThreadTaskExecutor("job-").getVirtualThreadFactory();
+    }
+    
+    @Bean(name = "databaseRetryScheduler", destroyMethod = "shutdown")
+    public ScheduledExecutorService databaseRetryScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, namedThreads("db-retry-"));
+        // Deadline timers are cancelled when an operation finishes early; drop them from the queue
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+    
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public TaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(1, schedulingPoolSize));
+        scheduler.setThreadNamePrefix("scheduling-");
+        logger.info("Task scheduler: {} threads", scheduler.getPoolSize());
+        return scheduler;
+    }
+    
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskScheduler virtualTaskScheduler() {
+        // Each run gets its own virtual thread, so jobs cannot hold each other up
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setVirtualThreads(true);
+        scheduler.setThreadNamePrefix("scheduling-");
+        logger.info("Task scheduler: virtual threads");
+        return scheduler;
+    }
+    
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
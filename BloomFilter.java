@@ -0,0 +1,109 @@
+package com.example.demo.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * mightContain never returns false for a value that was added; it may return true for a value
+ * that was not (at roughly the configured false-positive rate while within capacity).
+ * Values cannot be removed, so callers confirm positives against the source of truth.
+ */
+public class BloomFilter {
+    
+    private static final double LN2 = Math.log(2);
+    
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+    
+    /**
+     * Create a filter sized for the expected number of values
+     * @param expectedInsertions Number of values the filter is sized for
+     * @param falsePositiveRate Target false-positive probability at that size (0 &lt; rate &lt; 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || !(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing: " + expectedInsertions + ", " + falsePositiveRate);
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int words = (int) Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+        this.expectedInsertions = expectedInsertions;
+    }
+    
+    /**
+     * Add a value to the filter
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+    
+    /**
+     * Check whether a value may have been added
+     * @return false if the value was definitely never added
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Number of put calls so far
+     */
+    public long getInsertions() {
+        return insertions.get();
+    }
+    
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+    
+    public long getBitCount() {
+        return bitCount;
+    }
+    
+    public int getHashCount() {
+        return hashCount;
+    }
+    
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with an avalanche mix
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+    
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.example.demo.service.PerformanceMonitoringService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache configuration with a bounded, instrumented in-process cache per cache name.
+ * Each cache is sized and expired independently via app.cache.&lt;name&gt;.maximum-size and
+ * app.cache.&lt;name&gt;.ttl, and every lookup is reported to the PerformanceMonitoringService.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+    
+    // Defaults for caches without explicit configuration
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+    
+    // Built-in sizing for the known caches
+    private static final Map<String, Long> DEFAULT_SIZES = Map.of(
+        "departments", 10L,
+        "departmentById", 500L,
+        "departmentSummary", 10L
+    );
+    
+    @Autowired
+    private Environment environment;
+    
+    @Autowired
+    private PerformanceMonitoringService performanceMonitoringService;
+    
+    @Bean
+    public CacheManager cacheManager() {
+        return new CacheManager() {
+            private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+            
+            @Override
+            public Cache getCache(String name) {
+                return caches.computeIfAbsent(name, CacheConfig.this::createCache);
+            }
+            
+            @Override
+            public Collection<String> getCacheNames() {
+                return Collections.unmodifiableSet(caches.keySet());
+            }
+        };
+    }
+    
+    private Cache createCache(String name) {
+        long maximumSize = environment.getProperty("app.cache." + name + ".maximum-size", Long.class,
+            DEFAULT_SIZES.getOrDefault(name, DEFAULT_MAXIMUM_SIZE));
+        Duration ttl = environment.getProperty("app.cache." + name + ".ttl", Duration.class, DEFAULT_TTL);
+        
+        logger.info("Creating cache '{}' with maximum size {} and TTL {}", name, maximumSize, ttl);
+        
+        CaffeineCache cache = new CaffeineCache(name, Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build());
+        return new InstrumentedCache(cache, performanceMonitoringService);
+    }
+}
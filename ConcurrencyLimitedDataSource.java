@@ -0,0 +1,122 @@
+package com.example.demo.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.example.demo.exception.DatabaseUnavailableException;
+import com.example.demo.service.DatabaseConcurrencyLimiter;
+
+/**
+ * Wraps the application DataSource so every connection borrowed from the pool holds a
+ * DatabaseConcurrencyLimiter permit until it is closed. Applying the limiter here covers every path that
+ * reaches the pool (repositories, transactions, exports, migrations, scheduled jobs), not only calls made
+ * through DatabaseConnectionService. A caller that cannot get a permit within the acquire timeout gets a
+ * DatabaseUnavailableException instead of queueing inside Hikari until connection-timeout.
+ * Connections are returned unwrapped while the limiter is disabled.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+    
+    // Resolved on first use: the limiter itself is sized from this DataSource
+    private final ObjectProvider<DatabaseConcurrencyLimiter> limiterProvider;
+    
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource,
+                                        ObjectProvider<DatabaseConcurrencyLimiter> limiterProvider) {
+        super(targetDataSource);
+        this.limiterProvider = limiterProvider;
+    }
+    
+    /**
+     * Return the pool behind a possibly limited DataSource, for probes and pool statistics that must not
+     * wait for a permit
+     */
+    public static DataSource unlimited(DataSource dataSource) {
+        if (dataSource instanceof ConcurrencyLimitedDataSource) {
+            return ((ConcurrencyLimitedDataSource) dataSource).obtainTargetDataSource();
+        }
+        return dataSource;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return borrow(() -> obtainTargetDataSource().getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return borrow(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+    
+    private Connection borrow(ConnectionSource source) throws SQLException {
+        DatabaseConcurrencyLimiter limiter = limiterProvider.getObject();
+        if (!limiter.isEnabled()) {
+            return source.get();
+        }
+        if (!limiter.tryAcquire()) {
+            throw new DatabaseUnavailableException("Too many concurrent database operations",
+                limiter.getAcquireTimeoutMs());
+        }
+        
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+        return releasingOnClose(connection, limiter);
+    }
+    
+    private static Connection releasingOnClose(Connection target, DatabaseConcurrencyLimiter limiter) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "getTargetConnection":
+                        return target;
+                    case "unwrap":
+                        return ((Class<?>) args[0]).isInstance(proxy) ? proxy : target.unwrap((Class<?>) args[0]);
+                    case "isWrapperFor":
+                        return ((Class<?>) args[0]).isInstance(proxy) || target.isWrapperFor((Class<?>) args[0]);
+                    case "close":
+                        try {
+                            return invoke(target, method, args);
+                        } finally {
+                            // Closing twice is allowed by JDBC; release the permit only once
+                            if (released.compareAndSet(false, true)) {
+                                limiter.release();
+                            }
+                        }
+                    default:
+                        return invoke(target, method, args);
+                }
+            });
+    }
+    
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+    
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+}
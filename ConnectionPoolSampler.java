@@ -0,0 +1,259 @@
+package com.example.demo.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.ConcurrencyLimitedDataSource;
+import com.example.demo.config.HikariAcquisitionTracker;
+import com.example.demo.config.HikariAcquisitionTracker.AcquisitionStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Samples the Hikari connection pool on a fixed schedule (app.database.pool-sampler.interval-ms) into a
+ * fixed-size ring buffer (app.database.pool-sampler.capacity), so pool saturation and connection waits
+ * can be followed over time and lined up against query latency. Each sample holds the pool gauges at
+ * that moment and the acquisition times recorded by HikariAcquisitionTracker since the previous sample.
+ */
+@Component
+public class ConnectionPoolSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolSampler.class);
+
+    @Value("${app.database.pool-sampler.interval-ms:5000}")
+    private long intervalMs;
+
+    // 720 samples at the default interval cover the last hour
+    @Value("${app.database.pool-sampler.capacity:720}")
+    private int capacity;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private HikariAcquisitionTracker acquisitionTracker;
+
+    // Ring buffer guarded by this; next is the slot the following sample is written to
+    private PoolSample[] samples;
+    private int next;
+    private int size;
+
+    @PostConstruct
+    public void init() {
+        samples = new PoolSample[Math.max(1, capacity)];
+        logger.info("Connection pool sampler: every {} ms, keeping {} samples", intervalMs, samples.length);
+    }
+
+    /**
+     * Record one sample of the pool gauges and the acquisition counters of the elapsed interval
+     */
+    @Scheduled(initialDelayString = "${app.database.pool-sampler.interval-ms:5000}",
+               fixedRateString = "${app.database.pool-sampler.interval-ms:5000}")
+    public void sample() {
+        HikariPoolMXBean poolBean = poolBean();
+        if (poolBean == null) {
+            // Pool not started yet (or not Hikari); keep the tracker counters for the next interval
+            return;
+        }
+
+        try {
+            AcquisitionStats acquisition = acquisitionTracker.drain();
+            PoolSample sample = new PoolSample(Instant.now().toEpochMilli(),
+                poolBean.getActiveConnections(),
+                poolBean.getIdleConnections(),
+                poolBean.getTotalConnections(),
+                poolBean.getThreadsAwaitingConnection(),
+                acquisition);
+
+            synchronized (this) {
+                samples[next] = sample;
+                next = (next + 1) % samples.length;
+                size = Math.min(size + 1, samples.length);
+            }
+
+            if (sample.getTimeouts() > 0) {
+                logger.warn("Connection pool saturated: {} acquisition timeouts, {} threads waiting, max wait {} ms",
+                    sample.getTimeouts(), sample.getThreadsAwaitingConnection(), sample.getMaxAcquireMs());
+            }
+        } catch (Exception e) {
+            logger.debug("Could not sample connection pool: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get the retained samples, oldest first
+     */
+    public synchronized List<PoolSample> getSamples() {
+        List<PoolSample> result = new ArrayList<>(size);
+        int start = (next - size + samples.length) % samples.length;
+        for (int i = 0; i < size; i++) {
+            result.add(samples[(start + i) % samples.length]);
+        }
+        return result;
+    }
+
+    /**
+     * Get the retained time series together with the peak values over it
+     */
+    public Map<String, Object> getHistory() {
+        List<PoolSample> series = getSamples();
+
+        PoolSample peakActive = null;
+        PoolSample peakWaiting = null;
+        PoolSample peakAcquire = null;
+        long totalAcquisitions = 0;
+        long totalTimeouts = 0;
+        for (PoolSample sample : series) {
+            if (peakActive == null || sample.getActiveConnections() > peakActive.getActiveConnections()) {
+                peakActive = sample;
+            }
+            if (peakWaiting == null || sample.getThreadsAwaitingConnection() > peakWaiting.getThreadsAwaitingConnection()) {
+                peakWaiting = sample;
+            }
+            if (peakAcquire == null || sample.getMaxAcquireMs() > peakAcquire.getMaxAcquireMs()) {
+                peakAcquire = sample;
+            }
+            totalAcquisitions += sample.getAcquisitions();
+            totalTimeouts += sample.getTimeouts();
+        }
+
+        Map<String, Object> peaks = new LinkedHashMap<>();
+        if (peakActive != null) {
+            peaks.put("activeConnections", peak(peakActive.getActiveConnections(), peakActive));
+            peaks.put("threadsAwaitingConnection", peak(peakWaiting.getThreadsAwaitingConnection(), peakWaiting));
+            peaks.put("acquireMs", peak(peakAcquire.getMaxAcquireMs(), peakAcquire));
+        }
+        peaks.put("totalAcquisitions", totalAcquisitions);
+        peaks.put("totalTimeouts", totalTimeouts);
+
+        Map<String, Object> history = new LinkedHashMap<>();
+        history.put("intervalMs", intervalMs);
+        history.put("capacity", samples.length);
+        history.put("acquisitionTracking", acquisitionTracker.isInstalled());
+        DataSource pool = ConcurrencyLimitedDataSource.unlimited(dataSource);
+        history.put("maximumPoolSize", pool instanceof HikariDataSource
+            ? ((HikariDataSource) pool).getMaximumPoolSize() : null);
+        history.put("current", getCurrentPoolStats());
+        history.put("peaks", peaks);
+        history.put("samples", series);
+        return history;
+    }
+
+    /**
+     * Read the pool gauges now, without borrowing a connection
+     * @return Active, idle, total and waiting counts, or available=false if the pool has not started
+     */
+    public Map<String, Object> getCurrentPoolStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        HikariPoolMXBean poolBean = poolBean();
+        stats.put("available", poolBean != null);
+        if (poolBean != null) {
+            stats.put("activeConnections", poolBean.getActiveConnections());
+            stats.put("idleConnections", poolBean.getIdleConnections());
+            stats.put("totalConnections", poolBean.getTotalConnections());
+            stats.put("threadsAwaitingConnection", poolBean.getThreadsAwaitingConnection());
+        }
+        return stats;
+    }
+
+    private HikariPoolMXBean poolBean() {
+        DataSource pool = ConcurrencyLimitedDataSource.unlimited(dataSource);
+        if (pool instanceof HikariDataSource) {
+            return ((HikariDataSource) pool).getHikariPoolMXBean();
+        }
+        return null;
+    }
+
+    private static Map<String, Object> peak(Object value, PoolSample sample) {
+        Map<String, Object> peak = new LinkedHashMap<>();
+        peak.put("value", value);
+        peak.put("timestamp", sample.getTimestamp());
+        return peak;
+    }
+
+    /**
+     * Pool gauges at one sampling instant and the connection acquisitions of the interval before it.
+     * The timestamp is in epoch milliseconds.
+     */
+    public static class PoolSample {
+        private final long timestamp;
+        private final int activeConnections;
+        private final int idleConnections;
+        private final int totalConnections;
+        private final int threadsAwaitingConnection;
+        private final long acquisitions;
+        private final double averageAcquireMs;
+        private final double maxAcquireMs;
+        private final long timeouts;
+        private final long maxUsageMs;
+
+        public PoolSample(long timestamp, int activeConnections, int idleConnections, int totalConnections,
+                          int threadsAwaitingConnection, AcquisitionStats acquisition) {
+            this.timestamp = timestamp;
+            this.activeConnections = activeConnections;
+            this.idleConnections = idleConnections;
+            this.totalConnections = totalConnections;
+            this.threadsAwaitingConnection = threadsAwaitingConnection;
+            this.acquisitions = acquisition.getAcquisitions();
+            this.averageAcquireMs = acquisition.getAcquisitions() == 0 ? 0.0
+                : acquisition.getTotalAcquireNanos() / 1_000_000.0 / acquisition.getAcquisitions();
+            this.maxAcquireMs = acquisition.getMaxAcquireNanos() / 1_000_000.0;
+            this.timeouts = acquisition.getTimeouts();
+            this.maxUsageMs = acquisition.getMaxUsageMillis();
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public int getActiveConnections() {
+            return activeConnections;
+        }
+
+        public int getIdleConnections() {
+            return idleConnections;
+        }
+
+        public int getTotalConnections() {
+            return totalConnections;
+        }
+
+        public int getThreadsAwaitingConnection() {
+            return threadsAwaitingConnection;
+        }
+
+        public long getAcquisitions() {
+            return acquisitions;
+        }
+
+        public double getAverageAcquireMs() {
+            return averageAcquireMs;
+        }
+
+        public double getMaxAcquireMs() {
+            return maxAcquireMs;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public long getMaxUsageMs() {
+            return maxUsageMs;
+        }
+    }
+}
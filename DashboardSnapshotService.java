@@ -0,0 +1,201 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.config.DatabaseHealthIndicator;
+import com.example.demo.config.DatabaseHealthIndicator.DatabaseHealthStatus;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.DepartmentRepository.DepartmentHeadcount;
+import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.LeaveRepository;
+import com.example.demo.repository.PayslipRepository;
+import com.example.demo.repository.PayslipRepository.PayrollTotals;
+
+/**
+ * Maintains an immutable in-memory snapshot of the admin dashboard figures.
+ * The snapshot is rebuilt on a fixed schedule (app.dashboard.refresh-interval-ms) so that
+ * polling the dashboard never touches the database directly.
+ */
+@Service
+public class DashboardSnapshotService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardSnapshotService.class);
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private LeaveRepository leaveRepository;
+    
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    
+    @Autowired
+    private PayslipRepository payslipRepository;
+    
+    @Autowired
+    private DatabaseHealthIndicator databaseHealthIndicator;
+    
+    private final AtomicReference<DashboardSnapshot> currentSnapshot = new AtomicReference<>();
+    
+    // Serialises rebuilds so concurrent callers on a cold start share one snapshot build
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    
+    /**
+     * Get the latest dashboard snapshot, building the first one on demand.
+     * Callers arriving while the first snapshot is being built wait for it instead of building their own.
+     */
+    public DashboardSnapshot getSnapshot() {
+        DashboardSnapshot snapshot = currentSnapshot.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        
+        refreshLock.lock();
+        try {
+            snapshot = currentSnapshot.get();
+            if (snapshot == null) {
+                snapshot = refresh();
+            }
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+    
+    /**
+     * Rebuild the snapshot on a fixed schedule. A failed refresh keeps serving the previous snapshot.
+     */
+    @Scheduled(initialDelayString = "${app.dashboard.initial-delay-ms:5000}",
+               fixedDelayString = "${app.dashboard.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.error("Dashboard snapshot refresh failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Rebuild the snapshot immediately
+     */
+    public DashboardSnapshot refresh() {
+        refreshLock.lock();
+        try {
+            return rebuild();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+    
+    private DashboardSnapshot rebuild() {
+        long start = System.currentTimeMillis();
+        
+        LocalDate currentDate = LocalDate.now();
+        String currentMonth = currentDate.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+        String currentYear = String.valueOf(currentDate.getYear());
+        
+        long totalEmployees = employeeRepository.count();
+        long pendingLeaves = leaveRepository.countByStatus("PENDING");
+        
+        Map<String, Long> departmentHeadcount = new LinkedHashMap<>();
+        for (DepartmentHeadcount headcount : departmentRepository.countEmployeesGroupedByDepartment()) {
+            departmentHeadcount.put(headcount.getDeptName(), headcount.getEmployeeCount());
+        }
+        long withoutDepartment = employeeRepository.countByDepartmentIsNull();
+        if (withoutDepartment > 0) {
+            departmentHeadcount.put(DepartmentValidationService.DEFAULT_DEPARTMENT_NAME, withoutDepartment);
+        }
+        
+        PayrollTotals totals = payslipRepository.findPayrollTotalsForPeriod(currentMonth, currentYear);
+        Map<String, Object> payroll = new LinkedHashMap<>();
+        payroll.put("month", currentMonth);
+        payroll.put("year", currentYear);
+        payroll.put("payslipCount", totals.getPayslipCount());
+        payroll.put("totalGross", totals.getTotalGross());
+        payroll.put("totalDeductions", totals.getTotalDeductions());
+        payroll.put("totalNet", totals.getTotalNet());
+        
+        DatabaseHealthStatus healthStatus = databaseHealthIndicator.health();
+        
+        DashboardSnapshot snapshot = new DashboardSnapshot(totalEmployees, pendingLeaves, departmentHeadcount,
+            payroll, healthStatus.getStatus(), healthStatus.isHealthy(), Instant.now());
+        currentSnapshot.set(snapshot);
+        
+        logger.debug("Dashboard snapshot refreshed in {} ms: {} employees, {} pending leaves", 
+            System.currentTimeMillis() - start, totalEmployees, pendingLeaves);
+        return snapshot;
+    }
+    
+    /**
+     * Immutable dashboard figures captured at a point in time
+     */
+    public static class DashboardSnapshot {
+        private final long totalEmployees;
+        private final long pendingLeaves;
+        private final Map<String, Long> departmentHeadcount;
+        private final Map<String, Object> payroll;
+        private final String databaseStatus;
+        private final boolean databaseHealthy;
+        private final Instant generatedAt;
+        
+        public DashboardSnapshot(long totalEmployees, long pendingLeaves, Map<String, Long> departmentHeadcount,
+                                 Map<String, Object> payroll, String databaseStatus, boolean databaseHealthy,
+                                 Instant generatedAt) {
+            this.totalEmployees = totalEmployees;
+            this.pendingLeaves = pendingLeaves;
+            this.departmentHeadcount = Collections.unmodifiableMap(new LinkedHashMap<>(departmentHeadcount));
+            this.payroll = Collections.unmodifiableMap(new LinkedHashMap<>(payroll));
+            this.databaseStatus = databaseStatus;
+            this.databaseHealthy = databaseHealthy;
+            this.generatedAt = generatedAt;
+        }
+        
+        public long getTotalEmployees() {
+            return totalEmployees;
+        }
+        
+        public long getPendingLeaves() {
+            return pendingLeaves;
+        }
+        
+        public Map<String, Long> getDepartmentHeadcount() {
+            return departmentHeadcount;
+        }
+        
+        public Map<String, Object> getPayroll() {
+            return payroll;
+        }
+        
+        public String getDatabaseStatus() {
+            return databaseStatus;
+        }
+        
+        public boolean isDatabaseHealthy() {
+            return databaseHealthy;
+        }
+        
+        public Instant getGeneratedAt() {
+            return generatedAt;
+        }
+        
+        public long getAgeMs() {
+            return Duration.between(generatedAt, Instant.now()).toMillis();
+        }
+    }
+}
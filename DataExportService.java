@@ -0,0 +1,61 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for streaming bulk exports of employee and payslip data.
+ * Rows are written directly to the output stream so memory use stays flat regardless of row count.
+ */
+public interface DataExportService {
+    
+    /**
+     * Supported export formats
+     */
+    enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+        
+        private final String contentType;
+        private final String fileExtension;
+        
+        ExportFormat(String contentType, String fileExtension) {
+            this.contentType = contentType;
+            this.fileExtension = fileExtension;
+        }
+        
+        public String getContentType() { return contentType; }
+        public String getFileExtension() { return fileExtension; }
+        
+        /**
+         * Parse a format name (case-insensitive)
+         * @throws IllegalArgumentException if the format is not supported
+         */
+        public static ExportFormat fromName(String name) {
+            for (ExportFormat format : values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + name + ". Use csv or ndjson");
+        }
+    }
+    
+    /**
+     * Write all employees to the output stream
+     * @param format Export format
+     * @param out Destination stream (not closed)
+     * @return Number of rows written
+     */
+    long exportEmployees(ExportFormat format, OutputStream out) throws IOException;
+    
+    /**
+     * Write all payslips of a month and year to the output stream
+     * @param month Month name (e.g., "January")
+     * @param year Year as string (e.g., "2025")
+     * @param format Export format
+     * @param out Destination stream (not closed)
+     * @return Number of rows written
+     */
+    long exportPayslips(String month, String year, ExportFormat format, OutputStream out) throws IOException;
+}
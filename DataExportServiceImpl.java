@@ -0,0 +1,194 @@
+package com.example.demo.serviceimpl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.EmployeeSummaryDTO;
+import com.example.demo.dto.PayslipResponseDTO;
+import com.example.demo.model.Payslip;
+import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.PayslipRepository;
+import com.example.demo.service.DataExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Streaming implementation of DataExportService backed by Stream-returning repository queries.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DataExportServiceImpl implements DataExportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DataExportServiceImpl.class);
+    
+    // Number of rows after which output is flushed and, during entity exports, the persistence context is cleared
+    private static final int CLEAR_INTERVAL = 500;
+    
+    private static final String EMPLOYEE_CSV_HEADER =
+        "empId,empName,email,phoneNo,role,gender,salary,joiningDate,deptId,deptName";
+    private static final String PAYSLIP_CSV_HEADER =
+        "empId,empName,department,month,year,basicPay,hra,medicalAllowance,transportAllowance,otherAllowances," +
+        "grossSalary,pf,esi,taxDeductions,otherDeductions,totalDeductions,netSalary";
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private PayslipRepository payslipRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public long exportEmployees(ExportFormat format, OutputStream out) throws IOException {
+        logger.info("Starting {} export of employees", format);
+        long count = 0;
+        
+        try (Stream<EmployeeSummaryDTO> employees = employeeRepository.streamAllSummaries()) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            JsonGenerator generator = format == ExportFormat.NDJSON ? newGenerator(writer) : null;
+            ObjectWriter jsonWriter = newJsonWriter();
+            
+            if (format == ExportFormat.CSV) {
+                writer.write(EMPLOYEE_CSV_HEADER);
+                writer.write('\n');
+            }
+            
+            Iterator<EmployeeSummaryDTO> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                EmployeeSummaryDTO employee = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer,
+                        employee.getEmpId(), employee.getEmpName(), employee.getEmail(), employee.getPhoneNo(),
+                        employee.getRole(), employee.getGender(), employee.getSalary(), employee.getJoiningDate(),
+                        employee.getDepartment().getDeptId(), employee.getDepartment().getDeptName());
+                } else {
+                    jsonWriter.writeValue(generator, employee);
+                    generator.writeRaw('\n');
+                }
+                
+                if (++count % CLEAR_INTERVAL == 0) {
+                    flush(generator, writer);
+                }
+            }
+            flush(generator, writer);
+        }
+        
+        logger.info("Completed {} export of {} employees", format, count);
+        return count;
+    }
+    
+    @Override
+    public long exportPayslips(String month, String year, ExportFormat format, OutputStream out) throws IOException {
+        logger.info("Starting {} export of payslips for {} {}", format, month, year);
+        long count = 0;
+        
+        try (Stream<Payslip> payslips = payslipRepository.streamByMonthAndYearWithDepartment(month, year)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            JsonGenerator generator = format == ExportFormat.NDJSON ? newGenerator(writer) : null;
+            ObjectWriter jsonWriter = newJsonWriter();
+            
+            if (format == ExportFormat.CSV) {
+                writer.write(PAYSLIP_CSV_HEADER);
+                writer.write('\n');
+            }
+            
+            Iterator<Payslip> iterator = payslips.iterator();
+            while (iterator.hasNext()) {
+                PayslipResponseDTO payslip = PayslipResponseDTO.fromPayslip(iterator.next());
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer,
+                        payslip.getEmpId(), payslip.getEmpName(), payslip.getDepartment(), payslip.getMonth(),
+                        payslip.getYear(), payslip.getBasicPay(), payslip.getHra(), payslip.getMedicalAllowance(),
+                        payslip.getTransportAllowance(), payslip.getOtherAllowances(), payslip.getGrossSalary(),
+                        payslip.getPf(), payslip.getEsi(), payslip.getTaxDeductions(), payslip.getOtherDeductions(),
+                        payslip.getTotalDeductions(), payslip.getNetSalary());
+                } else {
+                    jsonWriter.writeValue(generator, payslip);
+                    generator.writeRaw('\n');
+                }
+                
+                // Detach exported entities so the persistence context does not grow with the export
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    flush(generator, writer);
+                }
+            }
+            flush(generator, writer);
+        }
+        
+        logger.info("Completed {} export of {} payslips for {} {}", format, count, month, year);
+        return count;
+    }
+    
+    /**
+     * Create an NDJSON generator that buffers rows itself; rows are separated by writeRaw('\n') and the
+     * generator only reaches the writer in flush(), so output is not pushed downstream row by row
+     */
+    private JsonGenerator newGenerator(Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.setRootValueSeparator(null);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        return generator;
+    }
+    
+    private ObjectWriter newJsonWriter() {
+        // writeValue(JsonGenerator, ...) would otherwise flush the generator after every row
+        return objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+    
+    /**
+     * Push buffered rows to the response, draining the NDJSON generator's buffer into the writer first
+     */
+    private void flush(JsonGenerator generator, Writer writer) throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+    
+    /**
+     * Write one CSV record, quoting values that contain separators, quotes or line breaks
+     */
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+        writer.write('\n');
+    }
+}
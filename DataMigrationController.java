@@ -1,15 +1,20 @@
 package com.example.demo.controller;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.demo.service.DataMigrationService;
+import com.example.demo.service.DataMigrationService.MigrationJobStatus;
 import com.example.demo.service.DataMigrationService.MigrationResult;
 import com.example.demo.service.DataMigrationService.ValidationResult;
 
@@ -46,4 +51,75 @@ public class DataMigrationController {
         Map<String, Integer> summary = dataMigrationService.getDepartmentEmployeeSummary();
         return ResponseEntity.ok(summary);
     }
+    
+    /**
+     * Starts the department migration as a background job
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<?> startMigrationJob() {
+        try {
+            MigrationJobStatus status = dataMigrationService.startDepartmentMigrationJob();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+        } catch (IllegalStateException e) {
+            return conflict(e);
+        }
+    }
+    
+    /**
+     * Lists recent migration jobs
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<List<MigrationJobStatus>> listMigrationJobs() {
+        return ResponseEntity.ok(dataMigrationService.listMigrationJobs());
+    }
+    
+    /**
+     * Gets the progress, throughput and ETA of a migration job
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<MigrationJobStatus> getMigrationJob(@PathVariable("jobId") Long jobId) {
+        MigrationJobStatus status = dataMigrationService.getMigrationJob(jobId);
+        if (status == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(status);
+    }
+    
+    /**
+     * Resumes a stopped migration job from its checkpoint
+     */
+    @PostMapping("/jobs/{jobId}/resume")
+    public ResponseEntity<?> resumeMigrationJob(@PathVariable("jobId") Long jobId) {
+        try {
+            MigrationJobStatus status = dataMigrationService.resumeMigrationJob(jobId);
+            if (status == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+        } catch (IllegalStateException e) {
+            return conflict(e);
+        }
+    }
+    
+    /**
+     * Cancels a migration job after its current chunk
+     */
+    @PostMapping("/jobs/{jobId}/cancel")
+    public ResponseEntity<?> cancelMigrationJob(@PathVariable("jobId") Long jobId) {
+        try {
+            MigrationJobStatus status = dataMigrationService.cancelMigrationJob(jobId);
+            if (status == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return ResponseEntity.ok(status);
+        } catch (IllegalStateException e) {
+            return conflict(e);
+        }
+    }
+    
+    private ResponseEntity<Map<String, String>> conflict(IllegalStateException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("errorMessage", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.example.demo.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+import com.example.demo.model.MigrationJob;
+
 /**
  * Service interface for handling data migration and validation operations
  */
@@ -38,6 +41,44 @@ public interface DataMigrationService {
      */
     Map<String, Integer> getDepartmentEmployeeSummary();
     
+    /**
+     * Starts the department migration as a background job.
+     * The job walks employees in ID order, commits one chunk per transaction and records the
+     * last processed employee ID as a checkpoint after each chunk.
+     * @return Status of the new job
+     * @throws IllegalStateException if another migration job is running
+     */
+    MigrationJobStatus startDepartmentMigrationJob();
+    
+    /**
+     * Resumes a failed, cancelled or interrupted job from its checkpoint
+     * @param jobId Job ID
+     * @return Status of the resumed job, or null if the job does not exist
+     * @throws IllegalStateException if the job cannot be resumed or another job is running
+     */
+    MigrationJobStatus resumeMigrationJob(Long jobId);
+    
+    /**
+     * Requests cancellation of a job; a running job stops after its current chunk
+     * @param jobId Job ID
+     * @return Status of the job, or null if the job does not exist
+     * @throws IllegalStateException if the job has already completed
+     */
+    MigrationJobStatus cancelMigrationJob(Long jobId);
+    
+    /**
+     * Gets the status of a job including throughput and ETA while it is running
+     * @param jobId Job ID
+     * @return Job status, or null if the job does not exist
+     */
+    MigrationJobStatus getMigrationJob(Long jobId);
+    
+    /**
+     * Lists the most recent migration jobs, newest first
+     * @return Job statuses
+     */
+    List<MigrationJobStatus> listMigrationJobs();
+    
     /**
      * Migration result class
      */
@@ -64,6 +105,67 @@ public interface DataMigrationService {
         public List<String> getValidationErrors() { return validationErrors; }
     }
     
+    /**
+     * Migration job status class
+     */
+    class MigrationJobStatus {
+        private Long jobId;
+        private String jobType;
+        private String status;
+        private int lastProcessedEmpId;
+        private long employeesTotal;
+        private long employeesProcessed;
+        private long employeesUpdated;
+        private int chunksCompleted;
+        private double percentComplete;
+        private double throughputPerSecond;
+        private Long etaSeconds;
+        private boolean cancelRequested;
+        private LocalDateTime startedAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime finishedAt;
+        private String errorMessage;
+        
+        public MigrationJobStatus(MigrationJob job, double throughputPerSecond, Long etaSeconds, boolean cancelRequested) {
+            this.jobId = job.getId();
+            this.jobType = job.getJobType();
+            this.status = job.getStatus();
+            this.lastProcessedEmpId = job.getLastProcessedEmpId();
+            this.employeesTotal = job.getEmployeesTotal();
+            this.employeesProcessed = job.getEmployeesProcessed();
+            this.employeesUpdated = job.getEmployeesUpdated();
+            this.chunksCompleted = job.getChunksCompleted();
+            this.percentComplete = job.getEmployeesTotal() > 0
+                ? Math.min(100.0, job.getEmployeesProcessed() * 100.0 / job.getEmployeesTotal())
+                : (MigrationJob.STATUS_COMPLETED.equals(job.getStatus()) ? 100.0 : 0.0);
+            this.throughputPerSecond = throughputPerSecond;
+            this.etaSeconds = etaSeconds;
+            this.cancelRequested = cancelRequested;
+            this.startedAt = job.getStartedAt();
+            this.updatedAt = job.getUpdatedAt();
+            this.finishedAt = job.getFinishedAt();
+            this.errorMessage = job.getErrorMessage();
+        }
+        
+        // Getters
+        public Long getJobId() { return jobId; }
+        public String getJobType() { return jobType; }
+        public String getStatus() { return status; }
+        public int getLastProcessedEmpId() { return lastProcessedEmpId; }
+        public long getEmployeesTotal() { return employeesTotal; }
+        public long getEmployeesProcessed() { return employeesProcessed; }
+        public long getEmployeesUpdated() { return employeesUpdated; }
+        public int getChunksCompleted() { return chunksCompleted; }
+        public double getPercentComplete() { return percentComplete; }
+        public double getThroughputPerSecond() { return throughputPerSecond; }
+        public Long getEtaSeconds() { return etaSeconds; }
+        public boolean isCancelRequested() { return cancelRequested; }
+        public LocalDateTime getStartedAt() { return startedAt; }
+        public LocalDateTime getUpdatedAt() { return updatedAt; }
+        public LocalDateTime getFinishedAt() { return finishedAt; }
+        public String getErrorMessage() { return errorMessage; }
+    }
+    
     /**
      * Validation result class
      */
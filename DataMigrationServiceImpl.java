@@ -1,36 +1,128 @@
 package com.example.demo.serviceimpl;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.demo.model.Department;
-import com.example.demo.model.Employee;
+import com.example.demo.model.MigrationJob;
 import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.DepartmentRepository.DepartmentHeadcount;
+import com.example.demo.repository.DepartmentRepository.EmployeeDepartmentStats;
 import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.MigrationJobRepository;
 import com.example.demo.service.DataMigrationService;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
 @Service
 @Transactional
 public class DataMigrationServiceImpl implements DataMigrationService {
     
     private static final Logger logger = LoggerFactory.getLogger(DataMigrationServiceImpl.class);
     
+    // Job type recorded for background department migrations
+    private static final String JOB_TYPE_DEPARTMENT = "DEPARTMENT_MIGRATION";
+    
+    // Cache of the summary and validation results, cleared whenever departments or assignments change
+    private static final String SUMMARY_CACHE = "departmentSummary";
+    private static final String SUMMARY_KEY = "summary";
+    private static final String VALIDATION_KEY = "validation";
+    
+    // Department assigned when no role rule matches
+    private static final String DEFAULT_DEPARTMENT_NAME = "Information Technology";
+    
+    // Default departments created by the migration
+    private static final Map<String, String> DEFAULT_DEPARTMENTS = new LinkedHashMap<>();
+    static {
+        DEFAULT_DEPARTMENTS.put("Information Technology", "IT Department handling software development and infrastructure");
+        DEFAULT_DEPARTMENTS.put("Human Resources", "HR Department managing employee relations and policies");
+        DEFAULT_DEPARTMENTS.put("Finance", "Finance Department handling accounting and financial operations");
+        DEFAULT_DEPARTMENTS.put("Marketing", "Marketing Department managing promotions and customer relations");
+        DEFAULT_DEPARTMENTS.put("Operations", "Operations Department managing day-to-day business operations");
+        DEFAULT_DEPARTMENTS.put("Sales", "Sales Department managing customer acquisition and revenue");
+        DEFAULT_DEPARTMENTS.put("Quality Assurance", "QA Department ensuring product and service quality");
+        DEFAULT_DEPARTMENTS.put("Research and Development", "R&D Department focusing on innovation and product development");
+    }
+    
+    // Role to department rules, evaluated in order; the first matching rule wins
+    private static final List<RoleRule> ROLE_RULES = List.of(
+        new RoleRule("Information Technology", "software", "developer", "engineer", "technical", "programmer", "architect"),
+        new RoleRule("Human Resources", "hr", "human"),
+        new RoleRule("Finance", "finance", "accounting", "financial"),
+        new RoleRule("Marketing", "marketing", "promotion"),
+        new RoleRule("Sales", "sales", "business"),
+        new RoleRule("Quality Assurance", "qa", "quality", "test"),
+        new RoleRule("Research and Development", "research", "r&d"),
+        new RoleRule("Operations", "manager", "lead", "director")
+    );
+    
     @Autowired
     private EmployeeRepository employeeRepository;
     
     @Autowired
     private DepartmentRepository departmentRepository;
     
+    @Autowired
+    private MigrationJobRepository migrationJobRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    // Number of employees migrated per transaction
+    @Value("${app.migration.chunk-size:5000}")
+    private int migrationChunkSize;
+    
+    // Platform or virtual thread factory, depending on spring.threads.virtual.enabled
+    @Autowired
+    @Qualifier("jobThreadFactory")
+    private ThreadFactory jobThreadFactory;
+    
+    // Background jobs run one at a time on a dedicated thread
+    private ExecutorService migrationExecutor;
+    
+    // Serialises job start and resume; a lock rather than synchronized so virtual threads are not pinned during queries
+    private final ReentrantLock jobLock = new ReentrantLock();
+    
+    // In-memory state of the jobs running in this instance, keyed by job ID
+    private final Map<Long, JobRun> activeRuns = new ConcurrentHashMap<>();
+    
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MigrationResult performDepartmentMigration() {
         logger.info("Starting department data migration...");
         
@@ -65,56 +157,48 @@ public class DataMigrationServiceImpl implements DataMigrationService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public ValidationResult validateEmployeeDepartmentRelationships() {
+        Cache cache = summaryCache();
+        ValidationResult cached = cache.get(VALIDATION_KEY, ValidationResult.class);
+        if (cached != null) {
+            logger.debug("Returning cached employee-department validation");
+            return cached;
+        }
+        
         logger.info("Validating employee-department relationships...");
         
         List<String> errors = new ArrayList<>();
         Map<String, Object> statistics = new HashMap<>();
         
         try {
-            // Get all employees
-            List<Employee> allEmployees = employeeRepository.findAll();
-            statistics.put("totalEmployees", allEmployees.size());
-            
-            // Check for employees without departments
-            long employeesWithoutDepartment = allEmployees.stream()
-                .filter(emp -> emp.getDepartment() == null)
-                .count();
-            
+            // Total, unassigned and dangling counts in one aggregate query
+            EmployeeDepartmentStats stats = departmentRepository.getEmployeeDepartmentStats();
+            long employeesWithoutDepartment = stats.getWithoutDepartment();
+            long employeesWithInvalidDept = stats.getInvalidDepartment();
+            statistics.put("totalEmployees", stats.getTotalEmployees());
             statistics.put("employeesWithoutDepartment", employeesWithoutDepartment);
             
             if (employeesWithoutDepartment > 0) {
                 errors.add("Found " + employeesWithoutDepartment + " employees without department assignment");
             }
             
-            // Check for employees with invalid department references
-            List<Employee> employeesWithInvalidDept = new ArrayList<>();
-            for (Employee emp : allEmployees) {
-                if (emp.getDepartment() != null) {
-                    Optional<Department> dept = departmentRepository.findById(emp.getDepartment().getDeptId());
-                    if (!dept.isPresent()) {
-                        employeesWithInvalidDept.add(emp);
-                    }
-                }
-            }
-            
-            statistics.put("employeesWithInvalidDepartment", employeesWithInvalidDept.size());
+            statistics.put("employeesWithInvalidDepartment", employeesWithInvalidDept);
             
-            if (!employeesWithInvalidDept.isEmpty()) {
-                errors.add("Found " + employeesWithInvalidDept.size() + " employees with invalid department references");
+            if (employeesWithInvalidDept > 0) {
+                errors.add("Found " + employeesWithInvalidDept + " employees with invalid department references");
             }
             
             // Get department statistics
-            List<Department> allDepartments = departmentRepository.findAll();
-            statistics.put("totalDepartments", allDepartments.size());
-            
-            Map<String, Integer> deptEmployeeCount = getDepartmentEmployeeSummary();
-            statistics.put("departmentEmployeeDistribution", deptEmployeeCount);
+            statistics.put("totalDepartments", departmentRepository.count());
+            statistics.put("departmentEmployeeDistribution", loadDepartmentEmployeeSummary(employeesWithoutDepartment));
             
             boolean isValid = errors.isEmpty();
             logger.info("Validation completed. Valid: {}, Errors: {}", isValid, errors.size());
             
-            return new ValidationResult(isValid, errors, statistics);
+            ValidationResult result = new ValidationResult(isValid, errors, statistics);
+            cache.put(VALIDATION_KEY, result);
+            return result;
             
         } catch (Exception e) {
             logger.error("Error during validation", e);
@@ -127,193 +211,470 @@ public class DataMigrationServiceImpl implements DataMigrationService {
     public int populateDefaultDepartments() {
         logger.info("Populating default departments...");
         
-        // Define default departments
-        Map<String, String> defaultDepartments = new HashMap<>();
-        defaultDepartments.put("Information Technology", "IT Department handling software development and infrastructure");
-        defaultDepartments.put("Human Resources", "HR Department managing employee relations and policies");
-        defaultDepartments.put("Finance", "Finance Department handling accounting and financial operations");
-        defaultDepartments.put("Marketing", "Marketing Department managing promotions and customer relations");
-        defaultDepartments.put("Operations", "Operations Department managing day-to-day business operations");
-        defaultDepartments.put("Sales", "Sales Department managing customer acquisition and revenue");
-        defaultDepartments.put("Quality Assurance", "QA Department ensuring product and service quality");
-        defaultDepartments.put("Research and Development", "R&D Department focusing on innovation and product development");
-        
-        int created = 0;
+        // Existing department names are loaded once and compared case-insensitively
+        Set<String> existingNames = new HashSet<>();
+        for (Department department : departmentRepository.findAll()) {
+            existingNames.add(department.getDeptName().toLowerCase(Locale.ROOT));
+        }
         
-        for (Map.Entry<String, String> entry : defaultDepartments.entrySet()) {
-            String deptName = entry.getKey();
-            String description = entry.getValue();
-            
-            // Check if department already exists
-            List<Department> existingDepts = departmentRepository.findAll();
-            boolean exists = existingDepts.stream()
-                .anyMatch(dept -> dept.getDeptName().equalsIgnoreCase(deptName));
-            
-            if (!exists) {
+        List<Department> newDepartments = new ArrayList<>();
+        for (Map.Entry<String, String> entry : DEFAULT_DEPARTMENTS.entrySet()) {
+            if (!existingNames.contains(entry.getKey().toLowerCase(Locale.ROOT))) {
                 Department newDept = new Department();
-                newDept.setDeptName(deptName);
-                newDept.setDescription(description);
-                
-                departmentRepository.save(newDept);
-                created++;
-                logger.info("Created department: {}", deptName);
+                newDept.setDeptName(entry.getKey());
+                newDept.setDescription(entry.getValue());
+                newDepartments.add(newDept);
+                logger.info("Creating department: {}", entry.getKey());
             }
         }
+        departmentRepository.saveAll(newDepartments);
+        if (!newDepartments.isEmpty()) {
+            evictDepartmentSummaries();
+        }
         
-        logger.info("Created {} new departments", created);
-        return created;
+        logger.info("Created {} new departments", newDepartments.size());
+        return newDepartments.size();
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int updateEmployeesWithInvalidDepartments() {
         logger.info("Updating employees with invalid department assignments...");
+        long startTime = System.currentTimeMillis();
         
-        List<Employee> allEmployees = employeeRepository.findAll();
-        List<Department> allDepartments = departmentRepository.findAll();
+        long totalEmployees = employeeRepository.count();
+        if (totalEmployees == 0) {
+            logger.info("No employees to update");
+            return 0;
+        }
         
-        // Find IT department as default
-        Department defaultDepartment = allDepartments.stream()
-            .filter(dept -> dept.getDeptName().equalsIgnoreCase("Information Technology"))
-            .findFirst()
-            .orElse(allDepartments.isEmpty() ? null : allDepartments.get(0));
+        // Resolve the target department of every role rule once
+        Map<String, Department> departmentsByName = loadDepartmentsByName();
+        Department defaultDepartment = resolveDefaultDepartment(departmentsByName);
         
         if (defaultDepartment == null) {
             logger.error("No departments available for assignment");
             return 0;
         }
         
+        int chunkSize = Math.max(1, migrationChunkSize);
+        int lastEmpId = 0;
+        long processed = 0;
         int updated = 0;
+        int chunkIndex = 0;
         
-        for (Employee employee : allEmployees) {
-            boolean needsUpdate = false;
-            Department assignedDepartment = null;
-            
-            // Check if employee has no department
-            if (employee.getDepartment() == null) {
-                needsUpdate = true;
-                assignedDepartment = assignDepartmentByRole(employee.getRole(), allDepartments, defaultDepartment);
-            } else {
-                // Check if department reference is valid
-                final int deptId = employee.getDepartment().getDeptId();
-                boolean validDepartment = allDepartments.stream()
-                    .anyMatch(dept -> dept.getDeptId() == deptId);
-                
-                if (!validDepartment) {
-                    needsUpdate = true;
-                    assignedDepartment = assignDepartmentByRole(employee.getRole(), allDepartments, defaultDepartment);
-                }
-            }
+        List<Integer> empIds;
+        while (!(empIds = employeeRepository.findEmpIdsAfter(lastEmpId, PageRequest.of(0, chunkSize))).isEmpty()) {
+            int fromId = lastEmpId + 1;
+            int toId = empIds.get(empIds.size() - 1);
+            updated += updateDepartmentsInRange(fromId, toId, departmentsByName, defaultDepartment);
+            lastEmpId = toId;
+            processed += empIds.size();
+            chunkIndex++;
             
-            if (needsUpdate && assignedDepartment != null) {
-                employee.setDepartment(assignedDepartment);
-                employeeRepository.save(employee);
-                updated++;
-                logger.info("Updated employee {} with department {}", 
-                    employee.getEmpName(), assignedDepartment.getDeptName());
-            }
+            logger.info("Department migration progress: chunk {} (employee IDs up to {}), {}/{} employees processed, {} updated so far",
+                chunkIndex, toId, processed, totalEmployees, updated);
         }
         
-        logger.info("Updated {} employees with proper department assignments", updated);
+        logger.info("Updated {} employees with proper department assignments in {} ms",
+            updated, System.currentTimeMillis() - startTime);
         return updated;
     }
     
     @Override
-    public Map<String, Integer> getDepartmentEmployeeSummary() {
-        logger.info("Generating department employee summary...");
-        
-        Map<String, Integer> summary = new HashMap<>();
-        
-        List<Department> allDepartments = departmentRepository.findAll();
-        List<Employee> allEmployees = employeeRepository.findAll();
-        
-        for (Department dept : allDepartments) {
-            long employeeCount = allEmployees.stream()
-                .filter(emp -> emp.getDepartment() != null && 
-                              emp.getDepartment().getDeptId() == dept.getDeptId())
-                .count();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MigrationJobStatus startDepartmentMigrationJob() {
+        jobLock.lock();
+        try {
+            ensureNoActiveJob();
+            
+            MigrationJob job = new MigrationJob(JOB_TYPE_DEPARTMENT);
+            job.setEmployeesTotal(employeeRepository.count());
+            job = migrationJobRepository.save(job);
             
-            summary.put(dept.getDeptName(), (int) employeeCount);
+            logger.info("Starting department migration job {} for {} employees", job.getId(), job.getEmployeesTotal());
+            return submitJob(job);
+        } finally {
+            jobLock.unlock();
+        }
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MigrationJobStatus resumeMigrationJob(Long jobId) {
+        jobLock.lock();
+        try {
+            return resumeLocked(jobId);
+        } finally {
+            jobLock.unlock();
         }
+    }
+    
+    private MigrationJobStatus resumeLocked(Long jobId) {
+        MigrationJob job = migrationJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return null;
+        }
+        // A RUNNING job without a run in this instance lost its final status update
+        boolean orphaned = MigrationJob.STATUS_RUNNING.equals(job.getStatus()) && !activeRuns.containsKey(jobId);
+        if (!job.isResumable() && !orphaned) {
+            throw new IllegalStateException("Migration job " + jobId + " is " + job.getStatus() + " and cannot be resumed");
+        }
+        ensureNoActiveJob();
         
-        // Count employees without department
-        long employeesWithoutDept = allEmployees.stream()
-            .filter(emp -> emp.getDepartment() == null)
-            .count();
+        job.setStatus(MigrationJob.STATUS_RUNNING);
+        job.setErrorMessage(null);
+        job.setFinishedAt(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        // Employees added since the checkpoint count towards the remaining work
+        job.setEmployeesTotal(job.getEmployeesProcessed()
+            + employeeRepository.countByEmpIdGreaterThan(job.getLastProcessedEmpId()));
+        job = migrationJobRepository.save(job);
         
-        if (employeesWithoutDept > 0) {
-            summary.put("No Department", (int) employeesWithoutDept);
+        logger.info("Resuming migration job {} after employee ID {}", jobId, job.getLastProcessedEmpId());
+        return submitJob(job);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MigrationJobStatus cancelMigrationJob(Long jobId) {
+        MigrationJob job = migrationJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return null;
+        }
+        if (MigrationJob.STATUS_COMPLETED.equals(job.getStatus())) {
+            throw new IllegalStateException("Migration job " + jobId + " has already completed");
         }
         
-        logger.info("Department summary generated: {}", summary);
-        return summary;
+        JobRun run = activeRuns.get(jobId);
+        if (run != null) {
+            // The job thread stops after the chunk it is currently committing
+            run.cancelRequested = true;
+            logger.info("Cancellation requested for migration job {}", jobId);
+            return toJobStatus(job);
+        }
+        
+        if (!MigrationJob.STATUS_CANCELLED.equals(job.getStatus())) {
+            job = finishJob(jobId, MigrationJob.STATUS_CANCELLED, null);
+            logger.info("Migration job {} cancelled", jobId);
+        }
+        return toJobStatus(job);
+    }
+    
+    @Override
+    public MigrationJobStatus getMigrationJob(Long jobId) {
+        return migrationJobRepository.findById(jobId)
+            .map(this::toJobStatus)
+            .orElse(null);
+    }
+    
+    @Override
+    public List<MigrationJobStatus> listMigrationJobs() {
+        List<MigrationJobStatus> statuses = new ArrayList<>();
+        for (MigrationJob job : migrationJobRepository.findTop20ByOrderByIdDesc()) {
+            statuses.add(toJobStatus(job));
+        }
+        return statuses;
+    }
+    
+    /**
+     * Mark jobs left RUNNING by a previous shutdown as INTERRUPTED so they can be resumed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedJobs() {
+        List<MigrationJob> interrupted = migrationJobRepository.findByStatus(MigrationJob.STATUS_RUNNING);
+        for (MigrationJob job : interrupted) {
+            job.setStatus(MigrationJob.STATUS_INTERRUPTED);
+            job.setUpdatedAt(LocalDateTime.now());
+            logger.warn("Migration job {} was interrupted after employee ID {}", job.getId(), job.getLastProcessedEmpId());
+        }
+        migrationJobRepository.saveAll(interrupted);
+    }
+    
+    @PostConstruct
+    public void startMigrationExecutor() {
+        migrationExecutor = Executors.newSingleThreadExecutor(jobThreadFactory);
+    }
+    
+    @PreDestroy
+    public void shutdownMigrationExecutor() {
+        migrationExecutor.shutdownNow();
+        try {
+            if (!migrationExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Migration job did not stop within 30 seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void ensureNoActiveJob() {
+        if (!activeRuns.isEmpty()) {
+            throw new IllegalStateException("Migration job " + activeRuns.keySet().iterator().next() + " is already running");
+        }
+    }
+    
+    private MigrationJobStatus submitJob(MigrationJob job) {
+        Long jobId = job.getId();
+        JobRun run = new JobRun(job.getEmployeesProcessed());
+        activeRuns.put(jobId, run);
+        try {
+            migrationExecutor.execute(() -> runDepartmentMigrationJob(jobId, run));
+        } catch (RejectedExecutionException e) {
+            activeRuns.remove(jobId);
+            finishJob(jobId, MigrationJob.STATUS_INTERRUPTED, "Application is shutting down");
+            throw new IllegalStateException("Migration jobs cannot be started while the application is shutting down", e);
+        }
+        return toJobStatus(job);
+    }
+    
+    /**
+     * Job body: migrate keyset-ordered chunks after the checkpoint until none remain or the job is cancelled
+     */
+    private void runDepartmentMigrationJob(Long jobId, JobRun run) {
+        try {
+            MigrationJob job = migrationJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("Migration job " + jobId + " not found"));
+            
+            populateDefaultDepartments();
+            Map<String, Department> departmentsByName = loadDepartmentsByName();
+            Department defaultDepartment = resolveDefaultDepartment(departmentsByName);
+            if (defaultDepartment == null) {
+                throw new IllegalStateException("No departments available for assignment");
+            }
+            
+            int chunkSize = Math.max(1, migrationChunkSize);
+            while (true) {
+                if (run.cancelRequested) {
+                    finishJob(jobId, MigrationJob.STATUS_CANCELLED, null);
+                    logger.info("Migration job {} cancelled after employee ID {}", jobId, job.getLastProcessedEmpId());
+                    return;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    finishJob(jobId, MigrationJob.STATUS_INTERRUPTED, "Application is shutting down");
+                    logger.info("Migration job {} interrupted after employee ID {}", jobId, job.getLastProcessedEmpId());
+                    return;
+                }
+                
+                List<Integer> empIds = employeeRepository.findEmpIdsAfter(job.getLastProcessedEmpId(), PageRequest.of(0, chunkSize));
+                if (empIds.isEmpty()) {
+                    break;
+                }
+                long updatedBefore = job.getEmployeesUpdated();
+                job = migrateChunk(jobId, job.getLastProcessedEmpId(), empIds, departmentsByName, defaultDepartment);
+                if (job.getEmployeesUpdated() > updatedBefore) {
+                    evictDepartmentSummaries();
+                }
+                
+                logger.info("Migration job {} progress: {}/{} employees processed, {} updated, checkpoint at employee ID {}",
+                    jobId, job.getEmployeesProcessed(), job.getEmployeesTotal(), job.getEmployeesUpdated(), job.getLastProcessedEmpId());
+            }
+            
+            job = finishJob(jobId, MigrationJob.STATUS_COMPLETED, null);
+            logger.info("Migration job {} completed: {} employees processed, {} updated",
+                jobId, job.getEmployeesProcessed(), job.getEmployeesUpdated());
+            
+        } catch (Exception e) {
+            String status = Thread.currentThread().isInterrupted()
+                ? MigrationJob.STATUS_INTERRUPTED : MigrationJob.STATUS_FAILED;
+            logger.error("Migration job {} stopped with status {}", jobId, status, e);
+            try {
+                finishJob(jobId, status, e.getMessage());
+            } catch (Exception statusError) {
+                logger.error("Could not record final status of migration job {}", jobId, statusError);
+            }
+        } finally {
+            activeRuns.remove(jobId);
+        }
     }
     
     /**
-     * Assigns department based on employee role
+     * Migrate one chunk and advance the job checkpoint in the same transaction,
+     * so a resumed job never repeats or skips a committed chunk
+     * @return Job state after the chunk
      */
-    private Department assignDepartmentByRole(String role, List<Department> allDepartments, Department defaultDepartment) {
-        if (role == null) {
-            return defaultDepartment;
+    private MigrationJob migrateChunk(Long jobId, int afterEmpId, List<Integer> empIds,
+                                      Map<String, Department> departmentsByName, Department defaultDepartment) {
+        int toId = empIds.get(empIds.size() - 1);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            int updated = applyDepartmentRules(afterEmpId + 1, toId, departmentsByName, defaultDepartment);
+            
+            MigrationJob job = migrationJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("Migration job " + jobId + " not found"));
+            job.setLastProcessedEmpId(toId);
+            job.setEmployeesProcessed(job.getEmployeesProcessed() + empIds.size());
+            job.setEmployeesUpdated(job.getEmployeesUpdated() + updated);
+            job.setChunksCompleted(job.getChunksCompleted() + 1);
+            job.setUpdatedAt(LocalDateTime.now());
+            return job;
+        });
+    }
+    
+    private MigrationJob finishJob(Long jobId, String status, String errorMessage) {
+        String storedMessage = errorMessage != null && errorMessage.length() > 500
+            ? errorMessage.substring(0, 500) : errorMessage;
+        return new TransactionTemplate(transactionManager).execute(txStatus -> {
+            MigrationJob job = migrationJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("Migration job " + jobId + " not found"));
+            LocalDateTime now = LocalDateTime.now();
+            job.setStatus(status);
+            job.setUpdatedAt(now);
+            job.setFinishedAt(now);
+            job.setErrorMessage(storedMessage);
+            return job;
+        });
+    }
+    
+    /**
+     * Build the status view of a job; throughput and ETA are measured over the current run only
+     */
+    private MigrationJobStatus toJobStatus(MigrationJob job) {
+        JobRun run = activeRuns.get(job.getId());
+        if (run == null || !MigrationJob.STATUS_RUNNING.equals(job.getStatus())) {
+            return new MigrationJobStatus(job, 0.0, null, false);
         }
         
-        String roleLower = role.toLowerCase();
+        double elapsedSeconds = (System.nanoTime() - run.startNanos) / 1_000_000_000.0;
+        long processedThisRun = job.getEmployeesProcessed() - run.processedAtStart;
+        double throughput = elapsedSeconds > 0 ? processedThisRun / elapsedSeconds : 0.0;
         
-        // IT roles
-        if (roleLower.contains("software") || roleLower.contains("developer") || 
-            roleLower.contains("engineer") || roleLower.contains("technical") ||
-            roleLower.contains("programmer") || roleLower.contains("architect")) {
-            return findDepartmentByName(allDepartments, "Information Technology", defaultDepartment);
+        Long etaSeconds = null;
+        if (throughput > 0) {
+            long remaining = Math.max(0, job.getEmployeesTotal() - job.getEmployeesProcessed());
+            etaSeconds = (long) Math.ceil(remaining / throughput);
         }
-        
-        // HR roles
-        if (roleLower.contains("hr") || roleLower.contains("human")) {
-            return findDepartmentByName(allDepartments, "Human Resources", defaultDepartment);
+        return new MigrationJobStatus(job, throughput, etaSeconds, run.cancelRequested);
+    }
+    
+    /**
+     * All departments keyed by lower-cased name, in repository order
+     */
+    private Map<String, Department> loadDepartmentsByName() {
+        Map<String, Department> departmentsByName = new LinkedHashMap<>();
+        for (Department department : departmentRepository.findAll()) {
+            departmentsByName.putIfAbsent(department.getDeptName().toLowerCase(Locale.ROOT), department);
         }
-        
-        // Finance roles
-        if (roleLower.contains("finance") || roleLower.contains("accounting") || 
-            roleLower.contains("financial")) {
-            return findDepartmentByName(allDepartments, "Finance", defaultDepartment);
+        return departmentsByName;
+    }
+    
+    /**
+     * Department assigned when no role rule matches: the default department if present, else the first one
+     */
+    private Department resolveDefaultDepartment(Map<String, Department> departmentsByName) {
+        Department defaultDepartment = departmentsByName.get(DEFAULT_DEPARTMENT_NAME.toLowerCase(Locale.ROOT));
+        if (defaultDepartment == null && !departmentsByName.isEmpty()) {
+            defaultDepartment = departmentsByName.values().iterator().next();
         }
-        
-        // Marketing roles
-        if (roleLower.contains("marketing") || roleLower.contains("promotion")) {
-            return findDepartmentByName(allDepartments, "Marketing", defaultDepartment);
+        return defaultDepartment;
+    }
+    
+    /**
+     * Repair department assignments for one employee ID range in a single transaction
+     * @return Number of employees assigned a department
+     */
+    private int updateDepartmentsInRange(int fromId, int toId, Map<String, Department> departmentsByName,
+                                         Department defaultDepartment) {
+        Integer updated = new TransactionTemplate(transactionManager).execute(
+            status -> applyDepartmentRules(fromId, toId, departmentsByName, defaultDepartment));
+        if (updated != null && updated > 0) {
+            evictDepartmentSummaries();
         }
+        return updated == null ? 0 : updated;
+    }
+    
+    /**
+     * Repair department assignments for one employee ID range within the current transaction.
+     * Dangling references are cleared, then unassigned employees are matched against the role
+     * rules in order (first matching rule wins) and the remainder get the default department.
+     * @return Number of employees assigned a department
+     */
+    private int applyDepartmentRules(int fromId, int toId, Map<String, Department> departmentsByName,
+                                     Department defaultDepartment) {
+        employeeRepository.clearDanglingDepartmentsInRange(fromId, toId);
         
-        // Sales roles
-        if (roleLower.contains("sales") || roleLower.contains("business")) {
-            return findDepartmentByName(allDepartments, "Sales", defaultDepartment);
+        int assigned = 0;
+        for (RoleRule rule : ROLE_RULES) {
+            Department department = departmentsByName.getOrDefault(
+                rule.departmentName.toLowerCase(Locale.ROOT), defaultDepartment);
+            for (String keyword : rule.keywords) {
+                assigned += employeeRepository.assignDepartmentByRoleInRange(
+                    department, "%" + keyword + "%", fromId, toId);
+            }
         }
-        
-        // QA roles
-        if (roleLower.contains("qa") || roleLower.contains("quality") || 
-            roleLower.contains("test")) {
-            return findDepartmentByName(allDepartments, "Quality Assurance", defaultDepartment);
+        assigned += employeeRepository.assignDepartmentInRange(defaultDepartment, fromId, toId);
+        return assigned;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public Map<String, Integer> getDepartmentEmployeeSummary() {
+        Cache cache = summaryCache();
+        Map<String, Integer> cached = cache.get(SUMMARY_KEY, Map.class);
+        if (cached != null) {
+            logger.debug("Returning cached department employee summary");
+            return cached;
         }
         
-        // R&D roles
-        if (roleLower.contains("research") || roleLower.contains("r&d")) {
-            return findDepartmentByName(allDepartments, "Research and Development", defaultDepartment);
+        Map<String, Integer> summary = loadDepartmentEmployeeSummary(employeeRepository.countByDepartmentIsNull());
+        cache.put(SUMMARY_KEY, summary);
+        return summary;
+    }
+    
+    /**
+     * Build the department headcount summary from one GROUP BY query
+     * @param employeesWithoutDepartment Number of unassigned employees, reported as "No Department"
+     */
+    private Map<String, Integer> loadDepartmentEmployeeSummary(long employeesWithoutDepartment) {
+        logger.info("Generating department employee summary...");
+        
+        Map<String, Integer> summary = new LinkedHashMap<>();
+        for (DepartmentHeadcount headcount : departmentRepository.countEmployeesGroupedByDepartment()) {
+            summary.merge(headcount.getDeptName(), headcount.getEmployeeCount().intValue(), Integer::sum);
         }
         
-        // Management roles - assign to Operations
-        if (roleLower.contains("manager") || roleLower.contains("lead") || 
-            roleLower.contains("director")) {
-            return findDepartmentByName(allDepartments, "Operations", defaultDepartment);
+        if (employeesWithoutDepartment > 0) {
+            summary.put("No Department", (int) employeesWithoutDepartment);
         }
         
-        // Default assignment
-        return defaultDepartment;
+        logger.info("Department summary generated: {}", summary);
+        return Collections.unmodifiableMap(summary);
+    }
+    
+    private Cache summaryCache() {
+        return cacheManager.getCache(SUMMARY_CACHE);
     }
     
     /**
-     * Finds department by name, returns default if not found
+     * Drop cached summaries after department rows or employee assignments change
      */
-    private Department findDepartmentByName(List<Department> departments, String name, Department defaultDepartment) {
-        return departments.stream()
-            .filter(dept -> dept.getDeptName().equalsIgnoreCase(name))
-            .findFirst()
-            .orElse(defaultDepartment);
+    private void evictDepartmentSummaries() {
+        summaryCache().clear();
+    }
+    
+    /**
+     * In-memory state of a running job: cancellation flag and the baseline for throughput
+     */
+    private static final class JobRun {
+        private final long startNanos = System.nanoTime();
+        private final long processedAtStart;
+        private volatile boolean cancelRequested;
+        
+        private JobRun(long processedAtStart) {
+            this.processedAtStart = processedAtStart;
+        }
+    }
+    
+    /**
+     * Role keyword rule: employees whose role contains any keyword belong to the named department
+     */
+    private static final class RoleRule {
+        private final String departmentName;
+        private final String[] keywords;
+        
+        private RoleRule(String departmentName, String... keywords) {
+            this.departmentName = departmentName;
+            this.keywords = keywords;
+        }
     }
-}
\ No newline at end of file
+}
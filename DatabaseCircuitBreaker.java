@@ -0,0 +1,237 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Circuit breaker guarding database calls made through DatabaseConnectionService.
+ * CLOSED: calls pass and their outcomes fill a sliding window of the last windowSize calls;
+ * once minimumCalls are recorded and the failure rate reaches the threshold the breaker opens.
+ * OPEN: calls are rejected immediately until the open interval ends. The interval doubles on
+ * each consecutive opening (capped) and is jittered so that instances do not probe in lockstep.
+ * HALF_OPEN: a limited number of probe calls pass; if all succeed the breaker closes, any
+ * failure reopens it.
+ */
+@Component
+public class DatabaseCircuitBreaker {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseCircuitBreaker.class);
+    
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+    
+    // Open interval varies by +/- this fraction
+    private static final double JITTER_FRACTION = 0.2;
+    
+    @Value("${app.database.circuit-breaker.window-size:20}")
+    private int windowSize;
+    
+    @Value("${app.database.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+    
+    @Value("${app.database.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+    
+    @Value("${app.database.circuit-breaker.open-duration-ms:5000}")
+    private long openDurationMs;
+    
+    @Value("${app.database.circuit-breaker.max-open-duration-ms:60000}")
+    private long maxOpenDurationMs;
+    
+    @Value("${app.database.circuit-breaker.half-open-probes:3}")
+    private int halfOpenProbes;
+    
+    private State state = State.CLOSED;
+    
+    // Sliding window of call outcomes, true = failure
+    private boolean[] window;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+    
+    private int consecutiveOpenings;
+    private long openUntilNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+    private LocalDateTime lastTransitionAt = LocalDateTime.now();
+    
+    // Counters since startup
+    private long successfulCalls;
+    private long failedCalls;
+    private long rejectedCalls;
+    private final Map<String, Long> transitionCounts = new LinkedHashMap<>();
+    
+    /**
+     * Ask whether a call may go to the database now
+     * @return false if the call must fail fast
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && System.nanoTime() - openUntilNanos >= 0) {
+            transitionTo(State.HALF_OPEN);
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenInFlight < Math.max(1, halfOpenProbes)) {
+                    halfOpenInFlight++;
+                    return true;
+                }
+                rejectedCalls++;
+                return false;
+            default:
+                rejectedCalls++;
+                return false;
+        }
+    }
+    
+    /**
+     * Record a call that reached the database and got an answer (including business errors)
+     */
+    public synchronized void onSuccess() {
+        successfulCalls++;
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= Math.max(1, halfOpenProbes)) {
+                consecutiveOpenings = 0;
+                resetWindow();
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+    
+    /**
+     * Record a call that failed because the database was unreachable or unresponsive
+     */
+    public synchronized void onFailure() {
+        failedCalls++;
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= Math.max(1, minimumCalls)
+                    && windowFailures * 100L >= (long) failureRateThreshold * windowCount) {
+                open();
+            }
+        }
+    }
+    
+    /**
+     * Record a permitted call that was abandoned before reaching the database
+     * Frees its half-open probe slot without counting an outcome
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+        }
+    }
+    
+    public synchronized State getState() {
+        return state;
+    }
+    
+    /**
+     * Milliseconds until an open breaker admits a probe call, 0 if it is not open
+     */
+    public synchronized long getRetryAfterMs() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(openUntilNanos - System.nanoTime()));
+    }
+    
+    /**
+     * Force the breaker closed and clear its window (operator override)
+     */
+    public synchronized void reset() {
+        logger.info("Database circuit breaker reset from {}", state);
+        consecutiveOpenings = 0;
+        halfOpenInFlight = 0;
+        resetWindow();
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+    
+    /**
+     * Get breaker state, failure rate, call counters and transition counts
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("lastTransitionAt", lastTransitionAt.toString());
+        stats.put("retryAfterMs", getRetryAfterMs());
+        stats.put("consecutiveOpenings", consecutiveOpenings);
+        stats.put("windowCalls", windowCount);
+        stats.put("windowFailures", windowFailures);
+        stats.put("failureRatePercent", windowCount == 0 ? 0.0 : windowFailures * 100.0 / windowCount);
+        stats.put("failureRateThresholdPercent", failureRateThreshold);
+        stats.put("successfulCalls", successfulCalls);
+        stats.put("failedCalls", failedCalls);
+        stats.put("rejectedCalls", rejectedCalls);
+        stats.put("transitions", new LinkedHashMap<>(transitionCounts));
+        return stats;
+    }
+    
+    private void open() {
+        consecutiveOpenings++;
+        long delayMs = Math.min(Math.max(1, maxOpenDurationMs),
+            openDurationMs << Math.min(consecutiveOpenings - 1, 20));
+        double jitter = 1.0 + ThreadLocalRandom.current().nextDouble(-JITTER_FRACTION, JITTER_FRACTION);
+        delayMs = Math.max(1, (long) (delayMs * jitter));
+        
+        openUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        resetWindow();
+        transitionTo(State.OPEN);
+        logger.warn("Database circuit breaker opened for {} ms (consecutive openings: {})", delayMs, consecutiveOpenings);
+    }
+    
+    private void record(boolean failure) {
+        int size = Math.max(1, windowSize);
+        if (window == null || window.length != size) {
+            window = new boolean[size];
+            windowNext = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+        if (windowCount == size) {
+            if (window[windowNext]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowNext = (windowNext + 1) % size;
+    }
+    
+    private void resetWindow() {
+        window = null;
+        windowNext = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+    
+    private void transitionTo(State next) {
+        transitionCounts.merge(state.name() + "->" + next.name(), 1L, Long::sum);
+        logger.info("Database circuit breaker {} -> {}", state, next);
+        state = next;
+        lastTransitionAt = LocalDateTime.now();
+    }
+}
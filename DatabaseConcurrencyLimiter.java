@@ -0,0 +1,133 @@
+package com.example.demo.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Caps the number of connections borrowed from the pool at once.
+ * With virtual threads every request gets its own thread, so thousands of callers can reach the
+ * connection pool at once and queue inside Hikari until connection-timeout. ConcurrencyLimitedDataSource
+ * takes one permit per borrowed connection, so the cap applies to every path that uses the DataSource,
+ * and callers that wait longer than the acquire timeout are shed. Only the health probe bypasses it.
+ * Enabled by default only when spring.threads.virtual.enabled is set. The virtual-threads profile
+ * (application-virtual-threads.properties) sets max-concurrency to the same value as the Hikari maximum pool size.
+ */
+@Component
+public class DatabaseConcurrencyLimiter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseConcurrencyLimiter.class);
+    
+    @Value("${app.database.limiter.enabled:${spring.threads.virtual.enabled:false}}")
+    private boolean enabled;
+    
+    // 0 = use the Hikari maximum pool size
+    @Value("${app.database.limiter.max-concurrency:0}")
+    private int maxConcurrency;
+    
+    @Value("${app.database.limiter.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMs;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    private Semaphore permits;
+    private int permitCount;
+    
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    
+    @PostConstruct
+    public void init() {
+        DataSource pool = ConcurrencyLimitedDataSource.unlimited(dataSource);
+        int poolSize = pool instanceof HikariDataSource
+            ? ((HikariDataSource) pool).getMaximumPoolSize() : 10;
+        permitCount = maxConcurrency > 0 ? maxConcurrency : poolSize;
+        permits = new Semaphore(permitCount, true);
+        
+        if (enabled) {
+            logger.info("Database concurrency limiter enabled: {} permits (pool size {}), acquire timeout {} ms",
+                permitCount, poolSize, acquireTimeoutMs);
+            if (permitCount > poolSize) {
+                logger.warn("Limiter permits ({}) exceed the connection pool size ({}); callers will still queue in the pool",
+                    permitCount, poolSize);
+            }
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Acquire a permit for one connection, waiting up to the acquire timeout
+     * @return false if no permit became available in time
+     */
+    public boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        
+        long start = System.nanoTime();
+        boolean granted;
+        try {
+            granted = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            granted = false;
+        }
+        waitNanos.addAndGet(System.nanoTime() - start);
+        
+        if (!granted) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        acquired.incrementAndGet();
+        return true;
+    }
+    
+    /**
+     * Release a permit acquired by tryAcquire(), from any thread
+     */
+    public void release() {
+        if (enabled) {
+            permits.release();
+        }
+    }
+    
+    /**
+     * Milliseconds a rejected caller is advised to wait before retrying
+     */
+    public long getAcquireTimeoutMs() {
+        return acquireTimeoutMs;
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("permits", permitCount);
+        stats.put("available", permits.availablePermits());
+        stats.put("waiting", permits.getQueueLength());
+        stats.put("acquired", acquired.get());
+        stats.put("rejected", rejected.get());
+        long total = acquired.get() + rejected.get();
+        stats.put("averageWaitMs", total == 0 ? 0.0 : TimeUnit.NANOSECONDS.toMicros(waitNanos.get()) / 1000.0 / total);
+        return stats;
+    }
+}
@@ -2,6 +2,14 @@ package com.example.demo.service;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -10,12 +18,18 @@ import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.stereotype.Service;
 
+import com.example.demo.exception.DatabaseUnavailableException;
+
 /**
  * Service for managing database connections with retry logic and error handling
  * Implements requirements 5.2, 5.4, 5.5, 5.6 for connection management
+ * Synchronous operations (executeGuarded) are attempted once; only executeWithRetryAsync retries.
  */
 @Service
 public class DatabaseConnectionService {
@@ -23,12 +37,32 @@ public class DatabaseConnectionService {
     private static final Logger logger = LoggerFactory.getLogger(DatabaseConnectionService.class);
     
     private static final int MAX_RETRY_ATTEMPTS = 3;
-    private static final long INITIAL_RETRY_DELAY_MS = 1000; // 1 second
+    // Async retries only ride out short blips; sustained outages are handled by the circuit breaker
+    private static final long INITIAL_RETRY_DELAY_MS = 100;
+    private static final long MAX_RETRY_DELAY_MS = 400;
     private static final double BACKOFF_MULTIPLIER = 2.0;
     
     @Autowired
     private DataSource dataSource;
     
+    @Autowired
+    private DatabaseCircuitBreaker circuitBreaker;
+    
+    @Autowired
+    private ConnectionPoolSampler connectionPoolSampler;
+    
+    @Autowired
+    @Qualifier("databaseExecutor")
+    private Executor databaseExecutor;
+    
+    @Autowired
+    @Qualifier("databaseRetryScheduler")
+    private ScheduledExecutorService databaseRetryScheduler;
+    
+    // Deadline applied to async operations that do not specify one
+    @Value("${app.database.async.default-deadline-ms:5000}")
+    private long defaultDeadlineMs;
+    
     /**
      * Test database connection health
      * Implements requirement 5.1 for connection testing
@@ -51,58 +85,180 @@ public class DatabaseConnectionService {
     }
     
     /**
-     * Execute database operation with retry logic and exponential backoff
-     * Implements requirement 5.2 for automatic reconnection with exponential backoff
+     * Execute database operation on the caller's thread, without retrying
+     * Makes a single attempt so the calling thread never sleeps between retries; a connectivity failure is
+     * reported to the circuit breaker and rethrown. Backoff and reconnection (requirement 5.2) are handled by
+     * executeWithRetryAsync and the circuit breaker. Fails fast with DatabaseUnavailableException while the
+     * circuit breaker is open.
      */
-    public <T> T executeWithRetry(Supplier<T> operation, String operationName) throws DataAccessException {
-        Exception lastException = null;
+    public <T> T executeGuarded(Supplier<T> operation, String operationName) throws DataAccessException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            long retryAfterMs = circuitBreaker.getRetryAfterMs();
+            logger.debug("Circuit breaker open, rejecting {} (retry after {} ms)", operationName, retryAfterMs);
+            throw new DatabaseUnavailableException("Database temporarily unavailable: " + operationName, retryAfterMs);
+        }
+        return executeOnce(operation, operationName);
+    }
+    
+    private <T> T executeOnce(Supplier<T> operation, String operationName) {
+        try {
+            logger.debug("Executing {}", operationName);
+            T result = operation.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (Exception e) {
+            DatabaseUnavailableException shed = findUnavailableCause(e);
+            if (shed != null) {
+                // Rejected by the concurrency limiter before reaching the database
+                circuitBreaker.onIgnored();
+                throw shed;
+            }
+            logger.warn("Operation {} failed: {}", operationName, e.getMessage());
+            recordFailure(e);
+            throw toDataAccessException(e, operationName);
+        }
+    }
+    
+    /**
+     * Execute database operation asynchronously with the default deadline
+     * @see #executeWithRetryAsync(Supplier, String, Duration)
+     */
+    public <T> CompletableFuture<T> executeWithRetryAsync(Supplier<T> operation, String operationName) {
+        return executeWithRetryAsync(operation, operationName, Duration.ofMillis(defaultDeadlineMs));
+    }
+    
+    /**
+     * Execute database operation on the database executor under the same circuit breaker and concurrency
+     * limiter rules as executeGuarded, retrying connectivity failures with backoff. Retries are scheduled
+     * instead of slept, so no thread waits for them.
+     * The future fails with QueryTimeoutException once the deadline passes; an attempt already
+     * running is left to finish but its result is discarded and no further retry is scheduled.
+     * @param operation Database operation
+     * @param operationName Name used in logs
+     * @param deadline Time allowed for all attempts, including queueing and retry delays
+     * @return Future completed with the result or a DataAccessException
+     */
+    public <T> CompletableFuture<T> executeWithRetryAsync(Supplier<T> operation, String operationName, Duration deadline) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        
+        if (!circuitBreaker.tryAcquirePermission()) {
+            long retryAfterMs = circuitBreaker.getRetryAfterMs();
+            logger.debug("Circuit breaker open, rejecting {} (retry after {} ms)", operationName, retryAfterMs);
+            result.completeExceptionally(
+                new DatabaseUnavailableException("Database temporarily unavailable: " + operationName, retryAfterMs));
+            return result;
+        }
         
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
-            try {
-                logger.debug("Executing {} - attempt {}/{}", operationName, attempt, MAX_RETRY_ATTEMPTS);
-                T result = operation.get();
-                
-                if (attempt > 1) {
-                    logger.info("Successfully executed {} after {} attempts", operationName, attempt);
-                }
-                
-                return result;
-                
-            } catch (Exception e) {
-                lastException = e;
-                logger.warn("Attempt {}/{} failed for {}: {}", attempt, MAX_RETRY_ATTEMPTS, operationName, e.getMessage());
-                
-                if (attempt < MAX_RETRY_ATTEMPTS && isRetryableException(e)) {
-                    long delayMs = calculateRetryDelay(attempt);
-                    logger.info("Retrying {} in {} ms", operationName, delayMs);
-                    
-                    try {
-                        TimeUnit.MILLISECONDS.sleep(delayMs);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        logger.error("Retry sleep interrupted for {}", operationName);
-                        throw new DataAccessException("Operation interrupted during retry", ie) {};
-                    }
-                } else {
-                    break;
-                }
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        ScheduledFuture<?> deadlineTimer = databaseRetryScheduler.schedule(() -> {
+            if (result.completeExceptionally(new QueryTimeoutException(
+                    "Operation " + operationName + " exceeded deadline of " + deadline.toMillis() + " ms"))) {
+                logger.warn("Deadline of {} ms exceeded for {}", deadline.toMillis(), operationName);
             }
+        }, deadline.toNanos(), TimeUnit.NANOSECONDS);
+        result.whenComplete((value, error) -> deadlineTimer.cancel(false));
+        
+        submitAttempt(operation, operationName, 1, deadlineNanos, result);
+        return result;
+    }
+    
+    private <T> void submitAttempt(Supplier<T> operation, String operationName, int attempt,
+                                   long deadlineNanos, CompletableFuture<T> result) {
+        try {
+            databaseExecutor.execute(() -> runAttempt(operation, operationName, attempt, deadlineNanos, result));
+        } catch (RejectedExecutionException e) {
+            // Executor queue is full: shed the call rather than queue behind a struggling database
+            circuitBreaker.onIgnored();
+            result.completeExceptionally(new DatabaseUnavailableException(
+                "Database executor saturated: " + operationName, INITIAL_RETRY_DELAY_MS));
+        }
+    }
+    
+    private <T> void runAttempt(Supplier<T> operation, String operationName, int attempt,
+                                long deadlineNanos, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            // Deadline passed while queued
+            circuitBreaker.onIgnored();
+            return;
         }
         
-        logger.error("All retry attempts failed for {}", operationName);
-        if (lastException instanceof DataAccessException) {
-            throw (DataAccessException) lastException;
+        try {
+            logger.debug("Executing {} asynchronously - attempt {}/{}", operationName, attempt, MAX_RETRY_ATTEMPTS);
+            T value = operation.get();
+            circuitBreaker.onSuccess();
+            if (attempt > 1) {
+                logger.info("Successfully executed {} after {} attempts", operationName, attempt);
+            }
+            result.complete(value);
+            
+        } catch (Exception e) {
+            DatabaseUnavailableException shed = findUnavailableCause(e);
+            if (shed != null) {
+                // Rejected by the concurrency limiter; retrying would only add to the queue
+                circuitBreaker.onIgnored();
+                result.completeExceptionally(shed);
+                return;
+            }
+            logger.warn("Attempt {}/{} failed for {}: {}", attempt, MAX_RETRY_ATTEMPTS, operationName, e.getMessage());
+            
+            long delayMs = calculateRetryDelay(attempt);
+            boolean withinDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs) - deadlineNanos < 0;
+            if (attempt < MAX_RETRY_ATTEMPTS && isRetryableException(e) && withinDeadline && !result.isDone()
+                    && circuitBreaker.getState() == DatabaseCircuitBreaker.State.CLOSED) {
+                logger.info("Retrying {} in {} ms", operationName, delayMs);
+                databaseRetryScheduler.schedule(
+                    () -> submitAttempt(operation, operationName, attempt + 1, deadlineNanos, result),
+                    delayMs, TimeUnit.MILLISECONDS);
+                return;
+            }
+            
+            recordFailure(e);
+            logger.error("All retry attempts failed for {}", operationName);
+            result.completeExceptionally(toDataAccessException(e, operationName));
+        }
+    }
+    
+    /**
+     * Find a DatabaseUnavailableException raised by ConcurrencyLimitedDataSource, which transaction
+     * managers and Hibernate may have wrapped
+     */
+    private static DatabaseUnavailableException findUnavailableCause(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof DatabaseUnavailableException) {
+                return (DatabaseUnavailableException) cause;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Report a final failure to the circuit breaker
+     * Only connectivity failures count against the breaker; other errors mean the database answered
+     */
+    private void recordFailure(Exception e) {
+        if (e instanceof DatabaseUnavailableException || isRetryableException(e)) {
+            circuitBreaker.onFailure();
         } else {
-            throw new DataAccessException("Operation failed after " + MAX_RETRY_ATTEMPTS + " attempts: " + operationName, lastException) {};
+            circuitBreaker.onSuccess();
         }
     }
     
+    private DataAccessException toDataAccessException(Exception e, String operationName) {
+        if (e instanceof DataAccessException) {
+            return (DataAccessException) e;
+        }
+        return new DataAccessException("Operation failed: " + operationName, e) {};
+    }
+    
     /**
-     * Calculate retry delay with exponential backoff
+     * Calculate retry delay with capped exponential backoff and jitter
      * Implements requirement 5.2 for exponential backoff strategy
      */
     private long calculateRetryDelay(int attemptNumber) {
-        return (long) (INITIAL_RETRY_DELAY_MS * Math.pow(BACKOFF_MULTIPLIER, attemptNumber - 1));
+        long cap = Math.min(MAX_RETRY_DELAY_MS,
+            (long) (INITIAL_RETRY_DELAY_MS * Math.pow(BACKOFF_MULTIPLIER, attemptNumber - 1)));
+        // Half fixed, half random so concurrent callers do not retry in lockstep
+        return cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
     }
     
     /**
@@ -110,27 +266,19 @@ public class DatabaseConnectionService {
      * Implements requirement 5.3 for error handling
      */
     private boolean isRetryableException(Exception e) {
+        if (e instanceof DatabaseUnavailableException) {
+            return false;
+        }
+        
         if (e instanceof SQLException) {
-            SQLException sqlEx = (SQLException) e;
-            String sqlState = sqlEx.getSQLState();
-            int errorCode = sqlEx.getErrorCode();
-            
-            // Connection-related SQL states that are retryable
-            return sqlState != null && (
-                sqlState.startsWith("08") ||  // Connection exception
-                sqlState.equals("40001") ||   // Serialization failure
-                sqlState.equals("40P01") ||   // Deadlock detected
-                errorCode == 1040 ||          // Too many connections
-                errorCode == 1042 ||          // Can't get hostname
-                errorCode == 1043 ||          // Bad handshake
-                errorCode == 2002 ||          // Can't connect to server
-                errorCode == 2003 ||          // Can't connect to server on socket
-                errorCode == 2006 ||          // MySQL server has gone away
-                errorCode == 2013             // Lost connection during query
-            );
+            return isRetryableSqlException((SQLException) e);
         }
         
         if (e instanceof DataAccessException) {
+            Throwable cause = ((DataAccessException) e).getMostSpecificCause();
+            if (cause instanceof SQLException && isRetryableSqlException((SQLException) cause)) {
+                return true;
+            }
             String message = e.getMessage();
             return message != null && (
                 message.contains("Connection") ||
@@ -143,31 +291,32 @@ public class DatabaseConnectionService {
         return false;
     }
     
+    private boolean isRetryableSqlException(SQLException sqlEx) {
+        String sqlState = sqlEx.getSQLState();
+        int errorCode = sqlEx.getErrorCode();
+        
+        // Connection-related SQL states that are retryable
+        return sqlState != null && (
+            sqlState.startsWith("08") ||  // Connection exception
+            sqlState.equals("40001") ||   // Serialization failure
+            sqlState.equals("40P01") ||   // Deadlock detected
+            errorCode == 1040 ||          // Too many connections
+            errorCode == 1042 ||          // Can't get hostname
+            errorCode == 1043 ||          // Bad handshake
+            errorCode == 2002 ||          // Can't connect to server
+            errorCode == 2003 ||          // Can't connect to server on socket
+            errorCode == 2006 ||          // MySQL server has gone away
+            errorCode == 2013             // Lost connection during query
+        );
+    }
+    
     /**
      * Get connection pool statistics for monitoring
      * Implements requirement 5.6 for connection monitoring
+     * The time series of these values is available from ConnectionPoolSampler.getHistory()
      */
-    public String getConnectionPoolStats() {
-        try {
-            if (dataSource instanceof com.zaxxer.hikari.HikariDataSource) {
-                com.zaxxer.hikari.HikariDataSource hikariDS = (com.zaxxer.hikari.HikariDataSource) dataSource;
-                com.zaxxer.hikari.HikariPoolMXBean poolBean = hikariDS.getHikariPoolMXBean();
-                
-                if (poolBean != null) {
-                    return String.format(
-                        "Connection Pool Stats - Active: %d, Idle: %d, Total: %d, Waiting: %d",
-                        poolBean.getActiveConnections(),
-                        poolBean.getIdleConnections(),
-                        poolBean.getTotalConnections(),
-                        poolBean.getThreadsAwaitingConnection()
-                    );
-                }
-            }
-            return "Connection pool statistics not available";
-        } catch (Exception e) {
-            logger.debug("Could not retrieve connection pool statistics: {}", e.getMessage());
-            return "Connection pool statistics unavailable: " + e.getMessage();
-        }
+    public Map<String, Object> getConnectionPoolStats() {
+        return connectionPoolSampler.getCurrentPoolStats();
     }
     
     /**
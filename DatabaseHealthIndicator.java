@@ -2,43 +2,124 @@ package com.example.demo.config;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.sql.DataSource;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.example.demo.service.ConnectionPoolSampler;
+
 /**
  * Database health indicator to monitor MySQL connectivity on port 3306
  * Implements requirement 5.1, 5.2, 5.6 for database connection monitoring
+ * A background probe validates a pooled connection every app.database.health.probe-interval-ms and
+ * health() returns the cached result, so health polling never borrows connections from request traffic.
+ * Forced refreshes are coalesced: a result younger than app.database.health.min-refresh-interval-ms
+ * is returned instead of probing again.
  */
 @Component
 public class DatabaseHealthIndicator {
     
     private static final Logger logger = LoggerFactory.getLogger(DatabaseHealthIndicator.class);
     
+    @Value("${app.database.health.min-refresh-interval-ms:1000}")
+    private long minRefreshIntervalMs;
+    
+    @Value("${app.database.health.validation-timeout-seconds:5}")
+    private int validationTimeoutSeconds;
+    
     @Autowired
     private DataSource dataSource;
     
+    @Autowired
+    private ConnectionPoolSampler connectionPoolSampler;
+    
+    private final AtomicReference<DatabaseHealthStatus> cachedStatus = new AtomicReference<>();
+    
+    // Serialises probes so concurrent refresh requests share one connection check
+    private final ReentrantLock probeLock = new ReentrantLock();
+    
     /**
-     * Check database health and return status information
+     * Get the most recent database health status, probing only if none has been recorded yet
      */
     public DatabaseHealthStatus health() {
+        DatabaseHealthStatus status = cachedStatus.get();
+        if (status == null) {
+            status = refresh();
+        }
+        return status;
+    }
+    
+    /**
+     * Probe the database on a fixed schedule and cache the result
+     */
+    @Scheduled(fixedDelayString = "${app.database.health.probe-interval-ms:10000}")
+    public void scheduledProbe() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.error("Scheduled database health probe failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Probe the database now, unless a result younger than the minimum refresh interval is cached
+     * @return The fresh or recently cached status
+     */
+    public DatabaseHealthStatus refresh() {
+        probeLock.lock();
+        try {
+            DatabaseHealthStatus previous = cachedStatus.get();
+            if (previous != null && previous.getAgeMs() < minRefreshIntervalMs) {
+                return previous;
+            }
+            
+            DatabaseHealthStatus status = probe();
+            cachedStatus.set(status);
+            
+            if (previous == null || previous.isHealthy() != status.isHealthy()) {
+                if (status.isHealthy()) {
+                    logger.info("Database health is {}", status.getStatus());
+                } else {
+                    logger.warn("Database health is {}: {}", status.getStatus(), status.getDetails());
+                }
+            }
+            return status;
+        } finally {
+            probeLock.unlock();
+        }
+    }
+    
+    /**
+     * Check database health by validating a pooled connection
+     * Bypasses the concurrency limiter, so a saturated limiter is not reported as a database outage
+     */
+    private DatabaseHealthStatus probe() {
         logger.debug("Checking database health status");
+        long start = System.nanoTime();
         
-        try (Connection connection = dataSource.getConnection()) {
-            if (connection.isValid(5)) {
+        try (Connection connection = ConcurrencyLimitedDataSource.unlimited(dataSource).getConnection()) {
+            if (connection.isValid(validationTimeoutSeconds)) {
                 logger.debug("Database connection is healthy");
                 
                 Map<String, Object> details = new HashMap<>();
                 details.put("database", "MySQL");
                 details.put("port", "3306");
                 details.put("status", "Connected");
-                details.put("connection_pool", getConnectionPoolInfo());
+                details.put("connection_pool", connectionPoolSampler.getCurrentPoolStats());
+                details.put("probe_duration_ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
                 
                 return new DatabaseHealthStatus(true, "UP", details);
             } else {
@@ -64,29 +145,6 @@ public class DatabaseHealthIndicator {
         }
     }
     
-    /**
-     * Get connection pool information for health monitoring
-     */
-    private String getConnectionPoolInfo() {
-        try {
-            // For HikariCP, we can get pool information
-            if (dataSource instanceof com.zaxxer.hikari.HikariDataSource) {
-                com.zaxxer.hikari.HikariDataSource hikariDS = (com.zaxxer.hikari.HikariDataSource) dataSource;
-                com.zaxxer.hikari.HikariPoolMXBean poolBean = hikariDS.getHikariPoolMXBean();
-                if (poolBean != null) {
-                    return String.format("Active: %d, Idle: %d, Total: %d", 
-                        poolBean.getActiveConnections(),
-                        poolBean.getIdleConnections(),
-                        poolBean.getTotalConnections());
-                }
-            }
-            return "Pool info not available";
-        } catch (Exception e) {
-            logger.debug("Could not retrieve connection pool info: {}", e.getMessage());
-            return "Pool info unavailable";
-        }
-    }
-    
     /**
      * Simple health status class to replace Spring Boot Actuator Health
      */
@@ -94,11 +152,17 @@ public class DatabaseHealthIndicator {
         private final boolean healthy;
         private final String status;
         private final Map<String, Object> details;
+        private final Instant checkedAt;
         
         public DatabaseHealthStatus(boolean healthy, String status, Map<String, Object> details) {
+            this(healthy, status, details, Instant.now());
+        }
+        
+        public DatabaseHealthStatus(boolean healthy, String status, Map<String, Object> details, Instant checkedAt) {
             this.healthy = healthy;
             this.status = status;
             this.details = details;
+            this.checkedAt = checkedAt;
         }
         
         public boolean isHealthy() {
@@ -113,10 +177,18 @@ public class DatabaseHealthIndicator {
             return details;
         }
         
+        public Instant getCheckedAt() {
+            return checkedAt;
+        }
+        
+        public long getAgeMs() {
+            return Duration.between(checkedAt, Instant.now()).toMillis();
+        }
+        
         @Override
         public String toString() {
-            return String.format("DatabaseHealthStatus{healthy=%s, status='%s', details=%s}", 
-                healthy, status, details);
+            return String.format("DatabaseHealthStatus{healthy=%s, status='%s', checkedAt=%s, details=%s}", 
+                healthy, status, checkedAt, details);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.demo.exception;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Thrown without touching the database while the database circuit breaker is open.
+ * Carries the time after which the breaker will admit a probe call again.
+ */
+public class DatabaseUnavailableException extends TransientDataAccessResourceException {
+    
+    private final long retryAfterMs;
+    
+    /**
+     * Constructor with message and retry hint
+     * @param message Error message
+     * @param retryAfterMs Milliseconds until the breaker allows a probe call
+     */
+    public DatabaseUnavailableException(String message, long retryAfterMs) {
+        super(message);
+        this.retryAfterMs = retryAfterMs;
+    }
+    
+    // Getters
+    public long getRetryAfterMs() {
+        return retryAfterMs;
+    }
+}
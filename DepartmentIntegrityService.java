@@ -0,0 +1,126 @@
+package com.example.demo.service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.repository.EmployeeRepository;
+
+/**
+ * Maintains a periodically recomputed report of employee/department referential integrity.
+ * Replaces per-row department validation on read paths: the report is built with a few
+ * set-based queries (app.department-integrity.refresh-interval-ms) and served from memory.
+ */
+@Service
+public class DepartmentIntegrityService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentIntegrityService.class);
+    
+    // Number of example employee IDs listed per issue type
+    private static final int SAMPLE_SIZE = 20;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    private final AtomicReference<IntegrityReport> currentReport = new AtomicReference<>();
+    
+    /**
+     * Get the latest integrity report, building the first one on demand
+     */
+    public IntegrityReport getReport() {
+        IntegrityReport report = currentReport.get();
+        if (report == null) {
+            report = refresh();
+        }
+        return report;
+    }
+    
+    @Scheduled(initialDelayString = "${app.department-integrity.initial-delay-ms:10000}",
+               fixedDelayString = "${app.department-integrity.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.error("Department integrity report refresh failed, keeping previous report: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Recompute the report immediately
+     */
+    public IntegrityReport refresh() {
+        long start = System.currentTimeMillis();
+        PageRequest sample = PageRequest.of(0, SAMPLE_SIZE);
+        
+        long totalEmployees = employeeRepository.count();
+        long withoutDepartment = employeeRepository.countByDepartmentIsNull();
+        long danglingDepartment = employeeRepository.countWithDanglingDepartment();
+        long blankDepartmentName = employeeRepository.countWithBlankDepartmentName();
+        
+        List<Integer> withoutDepartmentSample = withoutDepartment > 0
+            ? employeeRepository.findIdsWithoutDepartment(sample) : List.of();
+        List<Integer> danglingDepartmentSample = danglingDepartment > 0
+            ? employeeRepository.findIdsWithDanglingDepartment(sample) : List.of();
+        
+        IntegrityReport report = new IntegrityReport(totalEmployees, withoutDepartment, danglingDepartment,
+            blankDepartmentName, withoutDepartmentSample, danglingDepartmentSample, Instant.now());
+        currentReport.set(report);
+        
+        if (danglingDepartment > 0 || blankDepartmentName > 0) {
+            logger.warn("Department integrity issues: {} dangling references, {} blank department names, {} unassigned",
+                danglingDepartment, blankDepartmentName, withoutDepartment);
+        }
+        logger.debug("Department integrity report refreshed in {} ms", System.currentTimeMillis() - start);
+        return report;
+    }
+    
+    /**
+     * Immutable integrity figures captured at a point in time
+     */
+    public static class IntegrityReport {
+        private final long totalEmployees;
+        private final long employeesWithoutDepartment;
+        private final long employeesWithDanglingDepartment;
+        private final long employeesWithBlankDepartmentName;
+        private final List<Integer> sampleWithoutDepartment;
+        private final List<Integer> sampleWithDanglingDepartment;
+        private final Instant generatedAt;
+        
+        public IntegrityReport(long totalEmployees, long employeesWithoutDepartment, long employeesWithDanglingDepartment,
+                               long employeesWithBlankDepartmentName, List<Integer> sampleWithoutDepartment,
+                               List<Integer> sampleWithDanglingDepartment, Instant generatedAt) {
+            this.totalEmployees = totalEmployees;
+            this.employeesWithoutDepartment = employeesWithoutDepartment;
+            this.employeesWithDanglingDepartment = employeesWithDanglingDepartment;
+            this.employeesWithBlankDepartmentName = employeesWithBlankDepartmentName;
+            this.sampleWithoutDepartment = Collections.unmodifiableList(sampleWithoutDepartment);
+            this.sampleWithDanglingDepartment = Collections.unmodifiableList(sampleWithDanglingDepartment);
+            this.generatedAt = generatedAt;
+        }
+        
+        /**
+         * Referential integrity holds when no employee points at a missing or unnamed department
+         */
+        public boolean isConsistent() {
+            return employeesWithDanglingDepartment == 0 && employeesWithBlankDepartmentName == 0;
+        }
+        
+        // Getters
+        public long getTotalEmployees() { return totalEmployees; }
+        public long getEmployeesWithoutDepartment() { return employeesWithoutDepartment; }
+        public long getEmployeesWithDanglingDepartment() { return employeesWithDanglingDepartment; }
+        public long getEmployeesWithBlankDepartmentName() { return employeesWithBlankDepartmentName; }
+        public List<Integer> getSampleWithoutDepartment() { return sampleWithoutDepartment; }
+        public List<Integer> getSampleWithDanglingDepartment() { return sampleWithDanglingDepartment; }
+        public Instant getGeneratedAt() { return generatedAt; }
+        public long getAgeMs() { return System.currentTimeMillis() - generatedAt.toEpochMilli(); }
+    }
+}
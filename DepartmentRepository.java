@@ -55,10 +55,50 @@ public interface DepartmentRepository extends JpaRepository<Department, Integer>
     @Query("SELECT COUNT(e) FROM Employee e WHERE e.department.deptId = :deptId")
     Long countEmployeesByDepartmentId(@Param("deptId") Integer deptId);
     
+    /**
+     * Count employees per department in a single GROUP BY query
+     * Departments without employees are included with a count of zero
+     * @return Headcount projection per department
+     */
+    @Query("SELECT d.deptId AS deptId, d.deptName AS deptName, COUNT(e) AS employeeCount " +
+           "FROM Department d LEFT JOIN d.employees e " +
+           "GROUP BY d.deptId, d.deptName " +
+           "ORDER BY d.deptName")
+    List<DepartmentHeadcount> countEmployeesGroupedByDepartment();
+    
+    /**
+     * Employee-department integrity counts in a single pass over the employee table
+     * @return Total employees, employees without a department and employees whose
+     *         department reference points to a missing department
+     */
+    @Query(value = "SELECT COUNT(*) AS totalEmployees, " +
+                   "COALESCE(SUM(CASE WHEN e.department_id IS NULL THEN 1 ELSE 0 END), 0) AS withoutDepartment, " +
+                   "COALESCE(SUM(CASE WHEN e.department_id IS NOT NULL AND d.dept_id IS NULL THEN 1 ELSE 0 END), 0) AS invalidDepartment " +
+                   "FROM employee_table e LEFT JOIN department_table d ON e.department_id = d.dept_id", nativeQuery = true)
+    EmployeeDepartmentStats getEmployeeDepartmentStats();
+    
     /**
      * Check if department exists by name (for validation)
      * @param deptName Department name
      * @return true if department exists
      */
     boolean existsByDeptNameIgnoreCase(String deptName);
+    
+    /**
+     * Projection of the employee count of one department
+     */
+    interface DepartmentHeadcount {
+        Integer getDeptId();
+        String getDeptName();
+        Long getEmployeeCount();
+    }
+    
+    /**
+     * Projection of the employee-department integrity counts
+     */
+    interface EmployeeDepartmentStats {
+        Long getTotalEmployees();
+        Long getWithoutDepartment();
+        Long getInvalidDepartment();
+    }
 }
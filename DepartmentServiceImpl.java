@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import com.example.demo.model.Department;
@@ -27,7 +28,10 @@ public class DepartmentServiceImpl implements DepartmentService {
     private DepartmentRepository departmentRepository;
 
     @Override
-    @CacheEvict(value = "departments", allEntries = true)
+    @Caching(evict = {
+        @CacheEvict(value = "departments", key = "'all'"),
+        @CacheEvict(value = "departmentSummary", allEntries = true)
+    })
     public Department addDepartment(Department department) {
         logger.info("Adding new department: {}", department.getDeptName());
         Department savedDepartment = departmentRepository.save(department);
@@ -59,7 +63,10 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     @CachePut(value = "departmentById", key = "#id")
-    @CacheEvict(value = "departments", allEntries = true)
+    @Caching(evict = {
+        @CacheEvict(value = "departments", key = "'all'"),
+        @CacheEvict(value = "departmentSummary", allEntries = true)
+    })
     public Department updateDepartmentById(int id, Department department) {
         logger.info("Updating department with ID: {}", id);
         department.setDeptId(id);
@@ -69,7 +76,11 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
-    @CacheEvict(value = {"departmentById", "departments"}, allEntries = true)
+    @Caching(evict = {
+        @CacheEvict(value = "departmentById", key = "#id"),
+        @CacheEvict(value = "departments", key = "'all'"),
+        @CacheEvict(value = "departmentSummary", allEntries = true)
+    })
     public void deleteDepartmentById(int id) {
         logger.info("Deleting department with ID: {}", id);
         departmentRepository.deleteById(id);
@@ -32,7 +32,8 @@ public class Employee {
 	
 	@Id
 	@GeneratedValue(generator="emp_seq")
-	@SequenceGenerator(name="emp_seq",sequenceName="emp_sequence_table",allocationSize=1,initialValue=1000)
+	// IDs are reserved in blocks of 50 per sequence round trip (pooled-lo, see PersistenceConfig)
+	@SequenceGenerator(name="emp_seq",sequenceName="emp_sequence_table",allocationSize=50,initialValue=1000)
 	@Column(name="Employee_Id")
 	private int empId;
 	
@@ -48,7 +49,7 @@ public class Employee {
 	@Column(name="EmailId",length=30,unique=true)
 	private String email;
 	
-	@Pattern(regexp="[a-z][A-Z][0-9]{8,10}",message="Enter Valid Password")
+	@Pattern(regexp=EmployeeConstraints.PASSWORD_REGEX,message="Enter Valid Password")
 	@Column(name="Password",length=20)
 	private String password;
 	
@@ -59,8 +60,8 @@ public class Employee {
 	private int managerId;
 	
 	@Column(name="Salary")
-	@Min(10000)
-	@Max(2500000)
+	@Min(EmployeeConstraints.MIN_SALARY)
+	@Max(EmployeeConstraints.MAX_SALARY)
 	private float salary;
 	
 	@NotNull(message="Address should not be blank")
@@ -0,0 +1,23 @@
+package com.example.demo.model;
+
+/**
+ * Employee input formats shared by the Employee entity, request DTOs and EmployeeInputValidator,
+ * so the annotation constraints and the precompiled patterns cannot drift apart.
+ */
+public final class EmployeeConstraints {
+
+    // Declared on Employee.password
+    public static final String PASSWORD_REGEX = "[a-z][A-Z][0-9]{8,10}";
+
+    // Declared on Employee.salary
+    public static final long MIN_SALARY = 10000;
+    public static final long MAX_SALARY = 2500000;
+
+    // Formats checked by the settings update and availability endpoints
+    public static final String NAME_REGEX = "^[a-zA-Z\\s\\-']+$";
+    public static final String PHONE_REGEX = "^[0-9]{10}$";
+    public static final String EMAIL_FORMAT_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+
+    private EmployeeConstraints() {
+    }
+}
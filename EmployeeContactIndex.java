@@ -0,0 +1,279 @@
+package com.example.demo.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.EmployeeRepository.EmployeeContact;
+
+/**
+ * In-memory membership index of registered emails and phone numbers.
+ * Backed by Bloom filters: a negative answer means the value is definitely not registered, a positive
+ * answer must be confirmed against the database. Values are added as employees are created or updated;
+ * removed values stay in the filters (costing only a database confirmation) until the next rebuild.
+ * Until the first build completes every lookup reports a possible match, so callers fall back to the database.
+ * Callers add values before their transaction commits, so a rebuild's table snapshot may miss a row whose
+ * value was added shortly before the rebuild started; values added within app.contact-index.replay-window-ms
+ * of the rebuild start are therefore re-applied to the new filters when they are swapped in.
+ */
+@Component
+public class EmployeeContactIndex {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeContactIndex.class);
+    
+    // Minimum capacity of a freshly built index
+    private static final long MIN_CAPACITY = 10_000;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.contact-index.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+    
+    @Value("${app.contact-index.rebuild-interval-ms:3600000}")
+    private long rebuildIntervalMs;
+    
+    // Longest time expected between add() and the commit of the row it describes
+    @Value("${app.contact-index.replay-window-ms:60000}")
+    private long replayWindowMs;
+    
+    // Filters serving lookups; null until the first build completes
+    private final AtomicReference<Filters> current = new AtomicReference<>();
+    // Filters being built; values added during a rebuild go into both sets
+    private final AtomicReference<Filters> building = new AtomicReference<>();
+    
+    private final AtomicLong definiteMisses = new AtomicLong();
+    private final AtomicLong possibleMatches = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // add() holds the read lock and the swap the write lock, so no add reaches only the discarded filters
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    
+    // Values added within the replay window, oldest first
+    private final ConcurrentLinkedDeque<RecentAdd> recentAdds = new ConcurrentLinkedDeque<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            logger.error("Initial contact index build failed, availability checks will use the database: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Rebuild periodically to drop removed values, or sooner once the filters exceed their capacity
+     */
+    @Scheduled(initialDelayString = "${app.contact-index.rebuild-check-interval-ms:60000}",
+               fixedDelayString = "${app.contact-index.rebuild-check-interval-ms:60000}")
+    public void scheduledRebuild() {
+        Filters filters = current.get();
+        boolean overCapacity = filters != null && filters.emails.getInsertions() > filters.emails.getExpectedInsertions();
+        boolean expired = filters == null || System.currentTimeMillis() - filters.builtAt > rebuildIntervalMs;
+        if (overCapacity || expired) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                logger.error("Contact index rebuild failed, keeping previous index: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Rebuild the filters from the database and swap them in
+     */
+    public void rebuild() {
+        // A lock rather than synchronized so a virtual thread streaming the table does not pin its carrier
+        rebuildLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+    
+    private void rebuildLocked() {
+        long startTime = System.currentTimeMillis();
+        long employeeCount = employeeRepository.count();
+        long capacity = Math.max(MIN_CAPACITY, employeeCount * 2);
+        Filters filters = new Filters(new BloomFilter(capacity, falsePositiveRate),
+                new BloomFilter(capacity, falsePositiveRate), startTime);
+        building.set(filters);
+        
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<EmployeeContact> contacts = employeeRepository.streamAllContacts()) {
+                    contacts.forEach(contact -> filters.add(contact.getEmail(), contact.getPhoneNo()));
+                }
+            });
+            
+            swapLock.writeLock().lock();
+            try {
+                int replayed = replayRecentAdds(filters, startTime - replayWindowMs);
+                current.set(filters);
+                logger.debug("Re-applied {} recently added contacts to the rebuilt index", replayed);
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            building.set(null);
+        }
+        
+        rebuilds.incrementAndGet();
+        logger.info("Contact index rebuilt in {}ms for {} employees (capacity {})",
+                System.currentTimeMillis() - startTime, employeeCount, capacity);
+    }
+    
+    private int replayRecentAdds(Filters filters, long since) {
+        int replayed = 0;
+        for (RecentAdd recent : recentAdds) {
+            if (recent.recordedAt >= since) {
+                filters.add(recent.email, recent.phoneNo);
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+    
+    /**
+     * Record the contact details of a created or updated employee
+     */
+    public void add(String email, String phoneNo) {
+        long now = System.currentTimeMillis();
+        swapLock.readLock().lock();
+        try {
+            Filters filters = current.get();
+            if (filters != null) {
+                filters.add(email, phoneNo);
+            }
+            Filters pending = building.get();
+            if (pending != null) {
+                pending.add(email, phoneNo);
+            }
+            recentAdds.addLast(new RecentAdd(email, phoneNo, now));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        
+        // Drop values that have left the replay window
+        long cutoff = now - replayWindowMs;
+        RecentAdd oldest;
+        while ((oldest = recentAdds.peekFirst()) != null && oldest.recordedAt < cutoff) {
+            recentAdds.remove(oldest);
+        }
+    }
+    
+    /**
+     * @return false if the email is definitely not registered
+     */
+    public boolean mightContainEmail(String email) {
+        Filters filters = current.get();
+        return record(filters == null || filters.emails.mightContain(normalizeEmail(email)));
+    }
+    
+    /**
+     * @return false if the phone number is definitely not registered
+     */
+    public boolean mightContainPhone(String phoneNo) {
+        Filters filters = current.get();
+        return record(filters == null || filters.phones.mightContain(normalizePhone(phoneNo)));
+    }
+    
+    /**
+     * Index statistics for monitoring
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        Filters filters = current.get();
+        stats.put("ready", filters != null);
+        stats.put("rebuilds", rebuilds.get());
+        stats.put("definiteMisses", definiteMisses.get());
+        stats.put("possibleMatches", possibleMatches.get());
+        if (filters != null) {
+            stats.put("emailInsertions", filters.emails.getInsertions());
+            stats.put("phoneInsertions", filters.phones.getInsertions());
+            stats.put("capacity", filters.emails.getExpectedInsertions());
+            stats.put("bitsPerFilter", filters.emails.getBitCount());
+            stats.put("hashFunctions", filters.emails.getHashCount());
+            stats.put("ageMs", System.currentTimeMillis() - filters.builtAt);
+        }
+        return stats;
+    }
+    
+    private boolean record(boolean possibleMatch) {
+        (possibleMatch ? possibleMatches : definiteMisses).incrementAndGet();
+        return possibleMatch;
+    }
+    
+    // Email uniqueness is case-insensitive in the database, so the index is too
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    private static String normalizePhone(String phoneNo) {
+        return phoneNo.trim();
+    }
+    
+    /**
+     * Contact values passed to add(), kept for replay into the next rebuilt filters
+     */
+    private static final class RecentAdd {
+        private final String email;
+        private final String phoneNo;
+        private final long recordedAt;
+        
+        private RecentAdd(String email, String phoneNo, long recordedAt) {
+            this.email = email;
+            this.phoneNo = phoneNo;
+            this.recordedAt = recordedAt;
+        }
+    }
+    
+    /**
+     * Email and phone filters that are built and swapped together
+     */
+    private static final class Filters {
+        private final BloomFilter emails;
+        private final BloomFilter phones;
+        private final long builtAt;
+        
+        private Filters(BloomFilter emails, BloomFilter phones, long builtAt) {
+            this.emails = emails;
+            this.phones = phones;
+            this.builtAt = builtAt;
+        }
+        
+        private void add(String email, String phoneNo) {
+            if (email != null) {
+                emails.put(normalizeEmail(email));
+            }
+            if (phoneNo != null) {
+                phones.put(normalizePhone(phoneNo));
+            }
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package com.example.demo.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,13 +27,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.demo.dto.EmployeePageDTO;
 import com.example.demo.dto.EmployeeResponseDTO;
 import com.example.demo.dto.EmployeeSettingsUpdateDTO;
 import com.example.demo.dto.PayslipResponseDTO;
 import com.example.demo.exception.InvalidEmployeeIdException;
 import com.example.demo.model.Employee;
+import com.example.demo.service.DataExportService;
+import com.example.demo.service.DataExportService.ExportFormat;
 import com.example.demo.service.EmployeeService;
+import com.example.demo.service.EmployeeService.BulkImportResult;
+import com.example.demo.service.EmployeeService.ImportProgress;
 import com.example.demo.service.PayslipService;
 
 import jakarta.validation.Valid;
@@ -42,41 +59,64 @@ public class EmployeeController {
     @Autowired
     private PayslipService payslipService;
     
+    @Autowired
+    private DataExportService dataExportService;
+    
     // 1. Add Employee
     @PostMapping("/add/{deptid}")
-    public ResponseEntity<Employee> addEmployee(@Valid @RequestBody Employee employeewithoutId, @PathVariable("deptid") int deptId) {
+    public ResponseEntity<EmployeeResponseDTO> addEmployee(@Valid @RequestBody Employee employeewithoutId, @PathVariable("deptid") int deptId) {
         logger.info("Adding employee with department ID: {}", deptId);
         try {
             Employee employeewithId = employeeService.addEmployee(employeewithoutId, deptId);
             logger.info("Successfully added employee with ID: {} to department: {}", employeewithId.getEmpId(), deptId);
-            return new ResponseEntity<>(employeewithId, HttpStatus.CREATED);
+            return new ResponseEntity<>(EmployeeResponseDTO.fromEmployee(employeewithId), HttpStatus.CREATED);
         } catch (Exception ex) {
             logger.error("Error adding employee to department {}: {}", deptId, ex.getMessage(), ex);
             throw ex; // Let GlobalExceptionHandler handle this
         }
     }
 
-    // 2. Get All Employees
+    // 2. Get All Employees (completed on the database executor; the servlet thread is released meanwhile)
     @GetMapping("/all")
-    public List<Employee> getAllEmployee() {
+    public CompletableFuture<List<EmployeeResponseDTO>> getAllEmployee() {
         logger.info("Fetching all employees with department information");
+        return employeeService.getAllEmployeeAsync()
+            .whenComplete((employees, ex) -> {
+                if (ex != null) {
+                    logger.error("Error fetching all employees: {}", ex.getMessage(), ex);
+                } else {
+                    logger.info("Successfully fetched {} employees", employees.size());
+                }
+            });
+    }
+    
+    // Get Employees Page (keyset pagination on empId with optional filters)
+    @GetMapping("/list")
+    public ResponseEntity<EmployeePageDTO> getEmployeePage(
+            @RequestParam(value = "afterId", required = false) Integer afterId,
+            @RequestParam(value = "size", defaultValue = "50") int size,
+            @RequestParam(value = "deptId", required = false) Integer deptId,
+            @RequestParam(value = "role", required = false) String role,
+            @RequestParam(value = "gender", required = false) String gender,
+            @RequestParam(value = "joinedFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+            @RequestParam(value = "joinedTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo) {
+        logger.info("Fetching employee page after ID: {} with size: {}", afterId, size);
         try {
-            List<Employee> employees = employeeService.getAllEmployee();
-            logger.info("Successfully fetched {} employees", employees.size());
-            return employees;
+            EmployeePageDTO page = employeeService.getEmployeePage(afterId, size, deptId, role, gender, joinedFrom, joinedTo);
+            logger.info("Successfully fetched {} employees, more pages: {}", page.getSize(), page.isHasMore());
+            return new ResponseEntity<>(page, HttpStatus.OK);
         } catch (Exception ex) {
-            logger.error("Error fetching all employees: {}", ex.getMessage(), ex);
+            logger.error("Error fetching employee page: {}", ex.getMessage(), ex);
             throw ex; // Let GlobalExceptionHandler handle this
         }
     }
     
     // Get Employee Count
     @GetMapping("/count")
-    public ResponseEntity<Integer> getEmployeeCount() {
+    public ResponseEntity<Long> getEmployeeCount() {
         logger.info("Fetching employee count");
         try {
-            List<Employee> employees = employeeService.getAllEmployee();
-            int count = employees.size();
+            long count = employeeService.getEmployeeCount();
             logger.info("Successfully fetched employee count: {}", count);
             return new ResponseEntity<>(count, HttpStatus.OK);
         } catch (Exception ex) {
@@ -85,19 +125,42 @@ public class EmployeeController {
         }
     }
 
+    // Export All Employees (streamed as CSV or NDJSON)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(value = "format", defaultValue = "csv") String formatName) {
+        ExportFormat format = ExportFormat.fromName(formatName);
+        logger.info("Starting streamed employee export in format: {}", format);
+        StreamingResponseBody body = out -> dataExportService.exportEmployees(format, out);
+        return exportResponse(body, format, "employees");
+    }
+    
+    // Export Payslips of a Month (streamed as CSV or NDJSON)
+    @GetMapping("/payslips/export")
+    public ResponseEntity<StreamingResponseBody> exportPayslips(
+            @RequestParam("month") String month,
+            @RequestParam("year") String year,
+            @RequestParam(value = "format", defaultValue = "csv") String formatName) {
+        ExportFormat format = ExportFormat.fromName(formatName);
+        logger.info("Starting streamed payslip export for {} {} in format: {}", month, year, format);
+        StreamingResponseBody body = out -> dataExportService.exportPayslips(month, year, format, out);
+        return exportResponse(body, format, "payslips-" + month + "-" + year);
+    }
+
     // 3. Get Employee By ID
     @GetMapping("/get/{empid}")
-    public ResponseEntity<EmployeeResponseDTO> getEmployeeById(@PathVariable("empid") int empId) {
+    public CompletableFuture<ResponseEntity<EmployeeResponseDTO>> getEmployeeById(@PathVariable("empid") int empId) {
         logger.info("Fetching employee with ID: {}", empId);
-        try {
-            Employee employee = employeeService.getEmployeeById(empId);
-            EmployeeResponseDTO employeeResponse = EmployeeResponseDTO.fromEmployee(employee);
-            logger.info("Successfully fetched employee with ID: {}", empId);
-            return new ResponseEntity<>(employeeResponse, HttpStatus.OK);
-        } catch (Exception ex) {
-            logger.error("Error fetching employee with ID {}: {}", empId, ex.getMessage(), ex);
-            throw ex; // Let GlobalExceptionHandler handle this
-        }
+        return employeeService.getEmployeeByIdAsync(empId)
+            .thenApply(employee -> {
+                logger.info("Successfully fetched employee with ID: {}", empId);
+                return new ResponseEntity<>(employee, HttpStatus.OK);
+            })
+            .whenComplete((response, ex) -> {
+                if (ex != null) {
+                    logger.error("Error fetching employee with ID {}: {}", empId, ex.getMessage(), ex);
+                }
+            });
     }
 
     // 4. Delete Employee By ID
@@ -116,12 +179,12 @@ public class EmployeeController {
 
     // 5. Update Employee By ID
     @PutMapping("/update/{empid}")
-    public ResponseEntity<Employee> updateEmployeeById(@PathVariable("empid") int empId, @RequestBody Employee employee) {
+    public ResponseEntity<EmployeeResponseDTO> updateEmployeeById(@PathVariable("empid") int empId, @RequestBody Employee employee) {
         logger.info("Updating employee with ID: {}", empId);
         try {
             Employee updatedEmployee = employeeService.updateEmployeeById(empId, employee);
             logger.info("Successfully updated employee with ID: {}", empId);
-            return new ResponseEntity<>(updatedEmployee, HttpStatus.CREATED);
+            return new ResponseEntity<>(EmployeeResponseDTO.fromEmployee(updatedEmployee), HttpStatus.CREATED);
         } catch (Exception ex) {
             logger.error("Error updating employee with ID {}: {}", empId, ex.getMessage(), ex);
             throw ex; // Let GlobalExceptionHandler handle this
@@ -133,10 +196,9 @@ public class EmployeeController {
     public ResponseEntity<EmployeeResponseDTO> employeeLogin(@RequestBody Employee employee) {
         logger.info("Employee login attempt for email: {}", employee.getEmail());
         try {
-            Employee emp = employeeService.employeeLogin(employee);
-            if (emp != null) {
-                EmployeeResponseDTO employeeResponse = EmployeeResponseDTO.fromEmployee(emp);
-                logger.info("Successful login for employee ID: {}", emp.getEmpId());
+            EmployeeResponseDTO employeeResponse = employeeService.employeeLogin(employee);
+            if (employeeResponse != null) {
+                logger.info("Successful login for employee ID: {}", employeeResponse.getEmpId());
                 return new ResponseEntity<>(employeeResponse, HttpStatus.OK);
             } else {
                 logger.warn("Failed login attempt for email: {}", employee.getEmail());
@@ -148,20 +210,50 @@ public class EmployeeController {
         }
     }
     
-    //7. add list of employees
+    //7. add list of employees (rows are validated individually; the response reports each row)
     @PostMapping("/bulk-add")
-    public ResponseEntity<List<Employee>> addMultipleEmployees(@RequestBody List<@Valid Employee> employees) {
+    public ResponseEntity<BulkImportResult> addMultipleEmployees(@RequestBody List<Employee> employees) {
         logger.info("Adding {} employees in bulk", employees.size());
         try {
-            List<Employee> savedEmployees = employeeService.addMultipleEmployees(employees);
-            logger.info("Successfully added {} employees in bulk", savedEmployees.size());
-            return new ResponseEntity<>(savedEmployees, HttpStatus.CREATED);
+            BulkImportResult result = employeeService.addMultipleEmployees(employees);
+            logger.info("Bulk add finished: {} accepted, {} rejected", result.getAccepted(), result.getRejected());
+            return new ResponseEntity<>(result, result.getAccepted() > 0 ? HttpStatus.CREATED : HttpStatus.OK);
         } catch (Exception ex) {
             logger.error("Error adding multiple employees: {}", ex.getMessage(), ex);
             throw ex; // Let GlobalExceptionHandler handle this
         }
     }
 
+    // Import Employees from a CSV upload (streamed in bounded batches)
+    @PostMapping(value = "/import/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkImportResult> importEmployeesCsv(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "importId", required = false) String importId) {
+        String id = (importId == null || importId.isBlank()) ? UUID.randomUUID().toString() : importId;
+        logger.info("Importing employees from CSV file: {} ({} bytes) as import {}", file.getOriginalFilename(), file.getSize(), id);
+        try (InputStream csv = file.getInputStream()) {
+            BulkImportResult result = employeeService.importEmployeesCsv(csv, id);
+            logger.info("CSV import {} finished: {} accepted, {} rejected", id, result.getAccepted(), result.getRejected());
+            return ResponseEntity.status(result.getAccepted() > 0 ? HttpStatus.CREATED : HttpStatus.OK)
+                    .header("X-Import-Id", id)
+                    .body(result);
+        } catch (IOException ex) {
+            logger.error("Error reading uploaded CSV file: {}", ex.getMessage(), ex);
+            throw new RuntimeException("Failed to read uploaded CSV file: " + ex.getMessage(), ex);
+        }
+    }
+    
+    // Get CSV Import Progress
+    @GetMapping("/import/{importId}/progress")
+    public ResponseEntity<ImportProgress> getImportProgress(@PathVariable("importId") String importId) {
+        ImportProgress progress = employeeService.getImportProgress(importId);
+        if (progress == null) {
+            logger.warn("No progress found for import: {}", importId);
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(progress, HttpStatus.OK);
+    }
+
     // 8. Get Employee Payslip
     @GetMapping("/payslip/{empid}")
     public ResponseEntity<PayslipResponseDTO> getEmployeePayslip(@PathVariable("empid") String empIdStr) {
@@ -222,10 +314,10 @@ public class EmployeeController {
     // 10. Check Email Availability
     @GetMapping("/check-email")
     public ResponseEntity<Boolean> checkEmailAvailability(@RequestParam("email") String email) {
-        logger.info("Checking email availability for: {}", email);
+        logger.debug("Checking email availability for: {}", email);
         try {
             boolean isAvailable = employeeService.isEmailAvailable(email);
-            logger.info("Email availability check for {}: {}", email, isAvailable ? "available" : "taken");
+            logger.debug("Email availability check for {}: {}", email, isAvailable ? "available" : "taken");
             return new ResponseEntity<>(isAvailable, HttpStatus.OK);
         } catch (Exception ex) {
             logger.error("Error checking email availability for {}: {}", email, ex.getMessage(), ex);
@@ -236,10 +328,10 @@ public class EmployeeController {
     // 11. Check Phone Number Availability
     @GetMapping("/check-phone")
     public ResponseEntity<Boolean> checkPhoneAvailability(@RequestParam("phone") String phone) {
-        logger.info("Checking phone number availability for: {}", phone);
+        logger.debug("Checking phone number availability for: {}", phone);
         try {
             boolean isAvailable = employeeService.isPhoneAvailable(phone);
-            logger.info("Phone availability check for {}: {}", phone, isAvailable ? "available" : "taken");
+            logger.debug("Phone availability check for {}: {}", phone, isAvailable ? "available" : "taken");
             return new ResponseEntity<>(isAvailable, HttpStatus.OK);
         } catch (Exception ex) {
             logger.error("Error checking phone availability for {}: {}", phone, ex.getMessage(), ex);
@@ -247,4 +339,13 @@ public class EmployeeController {
         }
     }
 
-}
\ No newline at end of file
+    private ResponseEntity<StreamingResponseBody> exportResponse(StreamingResponseBody body, ExportFormat format, String fileName) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                // The builder escapes the file name, which carries the month/year request parameters
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + format.getFileExtension(), StandardCharsets.UTF_8)
+                        .build().toString())
+                .body(body);
+    }
+}
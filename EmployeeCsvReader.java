@@ -0,0 +1,225 @@
+package com.example.demo.serviceimpl;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.example.demo.model.Employee;
+
+/**
+ * Incremental reader for employee CSV imports.
+ * The first line is a header naming the columns (case-insensitive, any order); each call to
+ * {@link #next()} reads and maps exactly one record, so memory use does not depend on file size.
+ * Quoted fields may contain separators, doubled quotes and line breaks.
+ */
+public class EmployeeCsvReader implements Closeable {
+
+    // Supported columns (lower case)
+    private static final String COL_NAME = "empname";
+    private static final String COL_PHONE = "phoneno";
+    private static final String COL_EMAIL = "email";
+    private static final String COL_PASSWORD = "password";
+    private static final String COL_ROLE = "role";
+    private static final String COL_MANAGER = "managerid";
+    private static final String COL_SALARY = "salary";
+    private static final String COL_ADDRESS = "address";
+    private static final String COL_JOINING_DATE = "joiningdate";
+    private static final String COL_GENDER = "gender";
+    private static final String COL_DEPARTMENT = "department";
+    private static final String COL_DEPT_NAME = "deptname";
+
+    private static final String[] REQUIRED_COLUMNS = {COL_NAME, COL_PHONE, COL_ADDRESS, COL_JOINING_DATE};
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int lineNumber;
+
+    /**
+     * Open a reader and parse the header line
+     * @param in CSV content (UTF-8)
+     * @throws IllegalArgumentException if the header is missing or lacks a required column
+     */
+    public EmployeeCsvReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase(Locale.ROOT);
+            // Strip a UTF-8 byte order mark from the first column
+            if (i == 0 && !name.isEmpty() && name.charAt(0) == '\uFEFF') {
+                name = name.substring(1);
+            }
+            columns.put(name, i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing required column: " + required);
+            }
+        }
+    }
+
+    /**
+     * Read the next non-blank record
+     * @return Parsed row, or null at end of input
+     */
+    public Row next() throws IOException {
+        List<String> fields;
+        int rowNumber;
+        do {
+            rowNumber = lineNumber + 1;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        List<String> errors = new ArrayList<>();
+        Employee employee = new Employee();
+        employee.setEmpName(value(fields, COL_NAME));
+        employee.setPhoneNo(value(fields, COL_PHONE));
+        employee.setEmail(value(fields, COL_EMAIL));
+        employee.setPassword(value(fields, COL_PASSWORD));
+        employee.setRole(value(fields, COL_ROLE));
+        employee.setAddress(value(fields, COL_ADDRESS));
+        employee.setGender(value(fields, COL_GENDER));
+
+        String managerId = value(fields, COL_MANAGER);
+        if (managerId != null) {
+            try {
+                employee.setManagerId(Integer.parseInt(managerId));
+            } catch (NumberFormatException ex) {
+                errors.add("managerId: Not a valid number: " + managerId);
+            }
+        }
+
+        String salary = value(fields, COL_SALARY);
+        if (salary != null) {
+            try {
+                employee.setSalary(Float.parseFloat(salary));
+            } catch (NumberFormatException ex) {
+                errors.add("salary: Not a valid number: " + salary);
+            }
+        }
+
+        String joiningDate = value(fields, COL_JOINING_DATE);
+        if (joiningDate != null) {
+            try {
+                employee.setJoiningDate(LocalDate.parse(joiningDate));
+            } catch (DateTimeParseException ex) {
+                errors.add("joiningDate: Expected yyyy-MM-dd: " + joiningDate);
+            }
+        }
+
+        String departmentName = value(fields, COL_DEPARTMENT);
+        if (departmentName == null) {
+            departmentName = value(fields, COL_DEPT_NAME);
+        }
+
+        return new Row(rowNumber, employee, departmentName, errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String value(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Read one CSV record, continuing across lines while inside a quoted field
+     * @return Field values, or null at end of input
+     */
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Line break inside a quoted field
+                line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * One parsed CSV record. rowNumber is the line on which the record starts (header = line 1).
+     */
+    public static final class Row {
+        private final int rowNumber;
+        private final Employee employee;
+        private final String departmentName;
+        private final List<String> errors;
+
+        public Row(int rowNumber, Employee employee, String departmentName, List<String> errors) {
+            this.rowNumber = rowNumber;
+            this.employee = employee;
+            this.departmentName = departmentName;
+            this.errors = errors;
+        }
+
+        // Getters
+        public int getRowNumber() { return rowNumber; }
+        public Employee getEmployee() { return employee; }
+        public String getDepartmentName() { return departmentName; }
+        public List<String> getErrors() { return errors; }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.model.Employee;
+import com.example.demo.model.EmployeeConstraints;
+
+import jakarta.validation.Validator;
+
+/**
+ * Central validation of employee input with precompiled patterns.
+ * validate() applies exactly the constraints declared on the Employee entity for rows that did not pass
+ * through @Valid (bulk and CSV imports), without per-call regex compilation; @Email is delegated to the
+ * bean validator so its semantics match the entity. The name, phone and email format checks serve the
+ * settings and availability endpoints.
+ */
+@Component
+public class EmployeeInputValidator {
+    
+    private static final Pattern NAME_PATTERN = Pattern.compile(EmployeeConstraints.NAME_REGEX);
+    private static final Pattern PHONE_PATTERN = Pattern.compile(EmployeeConstraints.PHONE_REGEX);
+    private static final Pattern EMAIL_FORMAT_PATTERN = Pattern.compile(EmployeeConstraints.EMAIL_FORMAT_REGEX);
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile(EmployeeConstraints.PASSWORD_REGEX);
+    
+    private final Validator validator;
+    
+    public EmployeeInputValidator(Validator validator) {
+        this.validator = validator;
+    }
+    
+    public boolean isValidName(String name) {
+        return name != null && NAME_PATTERN.matcher(name).matches();
+    }
+    
+    public boolean isValidPhone(String phoneNo) {
+        return phoneNo != null && PHONE_PATTERN.matcher(phoneNo).matches();
+    }
+    
+    public boolean isValidEmail(String email) {
+        return email != null && EMAIL_FORMAT_PATTERN.matcher(email).matches();
+    }
+    
+    /**
+     * Validate one employee
+     * @param employee Employee to validate
+     * @return Error messages in "field: message" form; empty if the employee is valid
+     */
+    public List<String> validate(Employee employee) {
+        return validate(employee, LocalDate.now());
+    }
+    
+    /**
+     * Validate a batch of employees
+     * @param employees Employees to validate
+     * @return Error messages per employee, in input order; an empty list marks a valid employee
+     */
+    public List<List<String>> validate(List<Employee> employees) {
+        LocalDate today = LocalDate.now();
+        List<List<String>> results = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            results.add(validate(employee, today));
+        }
+        return results;
+    }
+    
+    private List<String> validate(Employee employee, LocalDate today) {
+        List<String> errors = new ArrayList<>(0);
+        if (employee == null) {
+            errors.add("Row is empty");
+            return errors;
+        }
+        
+        if (employee.getEmpName() == null) {
+            errors.add("empName: Name should not be blank");
+        }
+        if (employee.getPhoneNo() == null) {
+            errors.add("phoneNo: Phone Number should not be blank");
+        }
+        if (employee.getEmail() != null
+                && !validator.validateValue(Employee.class, "email", employee.getEmail()).isEmpty()) {
+            errors.add("email: Enter valid email id");
+        }
+        if (employee.getPassword() != null && !PASSWORD_PATTERN.matcher(employee.getPassword()).matches()) {
+            errors.add("password: Enter Valid Password");
+        }
+        if (employee.getSalary() < EmployeeConstraints.MIN_SALARY) {
+            errors.add("salary: must be greater than or equal to " + EmployeeConstraints.MIN_SALARY);
+        } else if (employee.getSalary() > EmployeeConstraints.MAX_SALARY) {
+            errors.add("salary: must be less than or equal to " + EmployeeConstraints.MAX_SALARY);
+        }
+        if (employee.getAddress() == null) {
+            errors.add("address: Address should not be blank");
+        }
+        if (employee.getJoiningDate() == null) {
+            errors.add("joiningDate: Date of Joining should not be blank");
+        } else if (employee.getJoiningDate().isAfter(today)) {
+            errors.add("joiningDate: Date of Joining must not be in the future");
+        }
+        return errors;
+    }
+}
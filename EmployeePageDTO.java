@@ -0,0 +1,60 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated page of employee summaries.
+ * Pass nextAfterId as the afterId of the following request to continue the listing.
+ */
+public class EmployeePageDTO {
+    
+    private List<EmployeeSummaryDTO> items;
+    private int size;
+    private boolean hasMore;
+    private Integer nextAfterId;
+    
+    // Default constructor
+    public EmployeePageDTO() {
+    }
+    
+    // Constructor with all fields
+    public EmployeePageDTO(List<EmployeeSummaryDTO> items, boolean hasMore) {
+        this.items = items;
+        this.size = items.size();
+        this.hasMore = hasMore;
+        this.nextAfterId = hasMore && !items.isEmpty() ? items.get(items.size() - 1).getEmpId() : null;
+    }
+    
+    // Getters and Setters
+    public List<EmployeeSummaryDTO> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<EmployeeSummaryDTO> items) {
+        this.items = items;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+    
+    public Integer getNextAfterId() {
+        return nextAfterId;
+    }
+    
+    public void setNextAfterId(Integer nextAfterId) {
+        this.nextAfterId = nextAfterId;
+    }
+}
@@ -1,17 +1,39 @@
 package com.example.demo.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.EmployeeSummaryDTO;
+import com.example.demo.model.Department;
 import com.example.demo.model.Employee;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Integer>{
 	
+	/**
+	 * Select clause projecting an employee and its department into EmployeeResponseDTO
+	 * Used by read-only queries so no Employee entity, department proxy or dirty-check snapshot is created
+	 */
+	String EMPLOYEE_RESPONSE_SELECT = "SELECT new com.example.demo.dto.EmployeeResponseDTO(e.empId, e.empName, " +
+	       "e.phoneNo, e.email, e.role, e.managerId, e.salary, e.address, e.joiningDate, e.gender, " +
+	       "d.deptId, d.deptName, d.description) " +
+	       "FROM Employee e LEFT JOIN e.department d ";
+	
 	public Employee findByEmailAndPassword(String email,String password);
 	
 	/**
@@ -30,15 +52,6 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer>{
 	@Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department WHERE e.email = :email")
 	Optional<Employee> findByEmailWithDepartment(@Param("email") String email);
 	
-	/**
-	 * Find employee by email and password with department information eagerly loaded
-	 * @param email Employee email
-	 * @param password Employee password
-	 * @return Optional employee with department data
-	 */
-	@Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department WHERE e.email = :email AND e.password = :password")
-	Optional<Employee> findByEmailAndPasswordWithDepartment(@Param("email") String email, @Param("password") String password);
-	
 	/**
 	 * Find all employees with their department information eagerly loaded
 	 * Uses DISTINCT to prevent duplicate results from JOIN FETCH
@@ -47,6 +60,73 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer>{
 	@Query("SELECT DISTINCT e FROM Employee e LEFT JOIN FETCH e.department ORDER BY e.empId")
 	java.util.List<Employee> findAllWithDepartment();
 	
+	/**
+	 * Find all employees as response projections, ordered by empId
+	 * @return Employee responses without password or entity state
+	 */
+	@Query(EMPLOYEE_RESPONSE_SELECT + "ORDER BY e.empId")
+	java.util.List<EmployeeResponseDTO> findAllResponses();
+	
+	/**
+	 * Find one employee as a response projection
+	 * @param empId Employee ID
+	 * @return Optional employee response
+	 */
+	@Query(EMPLOYEE_RESPONSE_SELECT + "WHERE e.empId = :empId")
+	Optional<EmployeeResponseDTO> findResponseById(@Param("empId") Integer empId);
+	
+	/**
+	 * Find the employee matching login credentials as a response projection
+	 * @param email Employee email
+	 * @param password Employee password
+	 * @return Optional employee response
+	 */
+	@Query(EMPLOYEE_RESPONSE_SELECT + "WHERE e.email = :email AND e.password = :password")
+	Optional<EmployeeResponseDTO> findResponseByEmailAndPassword(@Param("email") String email, @Param("password") String password);
+	
+	/**
+	 * Keyset (seek) page of employee summaries ordered by empId, with optional filters.
+	 * Selects only the listed columns into EmployeeSummaryDTO; the page size is taken from the Pageable.
+	 * @param afterId Return employees with empId greater than this value
+	 * @param deptId Optional department ID filter
+	 * @param role Optional role filter (case-insensitive)
+	 * @param gender Optional gender filter (case-insensitive)
+	 * @param joinedFrom Optional inclusive lower bound of joining date
+	 * @param joinedTo Optional inclusive upper bound of joining date
+	 * @param pageable Page request limiting the number of rows
+	 * @return Employee summaries ordered by empId
+	 */
+	@Query("SELECT new com.example.demo.dto.EmployeeSummaryDTO(e.empId, e.empName, e.email, e.phoneNo, e.role, " +
+	       "e.gender, e.salary, e.joiningDate, d.deptId, d.deptName) " +
+	       "FROM Employee e LEFT JOIN e.department d " +
+	       "WHERE e.empId > :afterId " +
+	       "AND (:deptId IS NULL OR d.deptId = :deptId) " +
+	       "AND (:role IS NULL OR LOWER(e.role) = LOWER(:role)) " +
+	       "AND (:gender IS NULL OR LOWER(e.gender) = LOWER(:gender)) " +
+	       "AND (:joinedFrom IS NULL OR e.joiningDate >= :joinedFrom) " +
+	       "AND (:joinedTo IS NULL OR e.joiningDate <= :joinedTo) " +
+	       "ORDER BY e.empId")
+	java.util.List<EmployeeSummaryDTO> findSummariesAfter(@Param("afterId") int afterId,
+			@Param("deptId") Integer deptId,
+			@Param("role") String role,
+			@Param("gender") String gender,
+			@Param("joinedFrom") LocalDate joinedFrom,
+			@Param("joinedTo") LocalDate joinedTo,
+			Pageable pageable);
+	
+	/**
+	 * Stream all employee summaries ordered by empId for export
+	 * Rows are fetched from the driver in batches instead of being materialised as a list;
+	 * must be consumed inside a transaction and closed after use
+	 * @return Stream of employee summaries
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT new com.example.demo.dto.EmployeeSummaryDTO(e.empId, e.empName, e.email, e.phoneNo, e.role, " +
+	       "e.gender, e.salary, e.joiningDate, d.deptId, d.deptName) " +
+	       "FROM Employee e LEFT JOIN e.department d " +
+	       "ORDER BY e.empId")
+	Stream<EmployeeSummaryDTO> streamAllSummaries();
+	
 	/**
 	 * Find employees by department ID with department information eagerly loaded
 	 * @param deptId Department ID
@@ -72,6 +152,44 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer>{
 	@Query("SELECT DISTINCT e FROM Employee e LEFT JOIN FETCH e.department WHERE e.empId IN :empIds")
 	java.util.List<Employee> findByIdInWithDepartment(@Param("empIds") java.util.List<Integer> empIds);
 	
+	/**
+	 * Count employees that have no department assigned
+	 * @return Number of employees without department
+	 */
+	long countByDepartmentIsNull();
+	
+	/**
+	 * Find the IDs of employees that have no department assigned
+	 * @param pageable Limit on the number of IDs returned
+	 * @return Employee IDs ordered ascending
+	 */
+	@Query("SELECT e.empId FROM Employee e WHERE e.department IS NULL ORDER BY e.empId")
+	java.util.List<Integer> findIdsWithoutDepartment(Pageable pageable);
+	
+	/**
+	 * Count employees whose department reference points to a department row that does not exist
+	 * @return Number of employees with a dangling department reference
+	 */
+	@Query(value = "SELECT COUNT(*) FROM employee_table e LEFT JOIN department_table d ON e.department_id = d.dept_id " +
+	               "WHERE e.department_id IS NOT NULL AND d.dept_id IS NULL", nativeQuery = true)
+	long countWithDanglingDepartment();
+	
+	/**
+	 * Find the IDs of employees whose department reference points to a missing department
+	 * @param pageable Limit on the number of IDs returned
+	 * @return Employee IDs ordered ascending
+	 */
+	@Query(value = "SELECT e.Employee_Id FROM employee_table e LEFT JOIN department_table d ON e.department_id = d.dept_id " +
+	               "WHERE e.department_id IS NOT NULL AND d.dept_id IS NULL ORDER BY e.Employee_Id", nativeQuery = true)
+	java.util.List<Integer> findIdsWithDanglingDepartment(Pageable pageable);
+	
+	/**
+	 * Count employees assigned to a department whose name is blank
+	 * @return Number of employees in departments without a usable name
+	 */
+	@Query("SELECT COUNT(e) FROM Employee e JOIN e.department d WHERE TRIM(d.deptName) = ''")
+	long countWithBlankDepartmentName();
+	
 	/**
 	 * Check if phone number exists for another employee (excluding the current employee)
 	 * Used for validation during employee settings update
@@ -104,5 +222,79 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer>{
 	 * @return true if phone number exists
 	 */
 	boolean existsByPhoneNo(String phoneNo);
+	
+	/**
+	 * Find the contact details of employees whose email or phone number is in the given sets
+	 * Used to check uniqueness of a whole import batch in one query
+	 * @param emails Email addresses to look up
+	 * @param phoneNos Phone numbers to look up
+	 * @return Matching email/phone pairs
+	 */
+	@Query("SELECT e.email AS email, e.phoneNo AS phoneNo FROM Employee e " +
+	       "WHERE e.email IN :emails OR e.phoneNo IN :phoneNos")
+	java.util.List<EmployeeContact> findContactsByEmailInOrPhoneNoIn(@Param("emails") Collection<String> emails,
+			@Param("phoneNos") Collection<String> phoneNos);
+	
+	/**
+	 * Next employee IDs after a keyset position, in ID order
+	 * Used by migration jobs to walk the table in chunks that resume from a checkpoint
+	 * @param afterId Last ID already processed (exclusive)
+	 * @param pageable Chunk size (page number must be 0)
+	 * @return Employee IDs greater than afterId
+	 */
+	@Query("SELECT e.empId FROM Employee e WHERE e.empId > :afterId ORDER BY e.empId")
+	java.util.List<Integer> findEmpIdsAfter(@Param("afterId") int afterId, Pageable pageable);
+	
+	/**
+	 * Count employees with an ID greater than the given one
+	 */
+	long countByEmpIdGreaterThan(int empId);
+	
+	/**
+	 * Clear department references that point to a missing department, within an ID range
+	 * @return Number of employees updated
+	 */
+	@Modifying
+	@Query(value = "UPDATE employee_table SET department_id = NULL " +
+	               "WHERE Employee_Id BETWEEN :fromId AND :toId AND department_id IS NOT NULL " +
+	               "AND department_id NOT IN (SELECT d.dept_id FROM department_table d)", nativeQuery = true)
+	int clearDanglingDepartmentsInRange(@Param("fromId") int fromId, @Param("toId") int toId);
+	
+	/**
+	 * Assign a department to unassigned employees whose lower-cased role matches a LIKE pattern, within an ID range
+	 * @return Number of employees updated
+	 */
+	@Modifying
+	@Query("UPDATE Employee e SET e.department = :department " +
+	       "WHERE e.empId BETWEEN :fromId AND :toId AND e.department IS NULL AND LOWER(e.role) LIKE :rolePattern")
+	int assignDepartmentByRoleInRange(@Param("department") Department department, @Param("rolePattern") String rolePattern,
+			@Param("fromId") int fromId, @Param("toId") int toId);
+	
+	/**
+	 * Assign a department to all unassigned employees within an ID range
+	 * @return Number of employees updated
+	 */
+	@Modifying
+	@Query("UPDATE Employee e SET e.department = :department " +
+	       "WHERE e.empId BETWEEN :fromId AND :toId AND e.department IS NULL")
+	int assignDepartmentInRange(@Param("department") Department department,
+			@Param("fromId") int fromId, @Param("toId") int toId);
+	
+	/**
+	 * Stream the email and phone number of every employee
+	 * Used to build the in-memory contact index; must be consumed inside a transaction and closed after use
+	 * @return Stream of contact pairs
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT e.email AS email, e.phoneNo AS phoneNo FROM Employee e")
+	Stream<EmployeeContact> streamAllContacts();
+	
+	/**
+	 * Projection of an employee's unique contact fields
+	 */
+	interface EmployeeContact {
+		String getEmail();
+		String getPhoneNo();
+	}
 
 }
@@ -67,6 +67,25 @@ public class EmployeeResponseDTO {
         }
     }
     
+    // Constructor used by repository projection queries; applies the same defaults as the entity constructor
+    public EmployeeResponseDTO(int empId, String empName, String phoneNo, String email, String role,
+                               int managerId, float salary, String address, LocalDate joiningDate, String gender,
+                               Integer deptId, String deptName, String deptDescription) {
+        this.empId = empId;
+        this.empName = empName != null ? empName : "Unknown Employee";
+        this.phoneNo = phoneNo;
+        this.email = email;
+        this.role = role;
+        this.managerId = managerId;
+        this.salary = salary;
+        this.address = address;
+        this.joiningDate = joiningDate;
+        this.gender = gender;
+        this.department = deptId != null
+            ? new DepartmentDTO(deptId, deptName != null && !deptName.trim().isEmpty() ? deptName : null, deptDescription)
+            : new DepartmentDTO(0, "Department Not Assigned", null);
+    }
+    
     // Static factory method for creating DTO from Employee entity
     public static EmployeeResponseDTO fromEmployee(Employee employee) {
         return new EmployeeResponseDTO(employee);
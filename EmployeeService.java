@@ -1,31 +1,175 @@
 package com.example.demo.service;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import com.example.demo.dto.EmployeePageDTO;
+import com.example.demo.dto.EmployeeResponseDTO;
 import com.example.demo.model.Employee;
 
-import jakarta.validation.Valid;
-
 public interface EmployeeService {
 	
 	public Employee addEmployee(Employee employee,int deptId);
 	
-	public List<Employee> getAllEmployee();
+	/**
+	 * Fetch all employees as read-only response projections
+	 */
+	public List<EmployeeResponseDTO> getAllEmployee();
+	
+	/**
+	 * Fetch all employees on the database executor; the caller thread is not blocked by retries
+	 * @return Future completed with the employee response projections
+	 */
+	public CompletableFuture<List<EmployeeResponseDTO>> getAllEmployeeAsync();
+	
+	public EmployeePageDTO getEmployeePage(Integer afterId, int size, Integer deptId, String role, String gender,
+			LocalDate joinedFrom, LocalDate joinedTo);
+	
+	public long getEmployeeCount();
 	
 	public Employee getEmployeeById(int empId);
 	
+	/**
+	 * Fetch one employee on the database executor as a read-only response projection
+	 * @param empId Employee ID
+	 * @return Future completed with the employee, or failed if it does not exist
+	 */
+	public CompletableFuture<EmployeeResponseDTO> getEmployeeByIdAsync(int empId);
+	
 	public void deleteEmployeeById(int empId);
 	
 	public Employee updateEmployeeById(int empId, Employee employee);
 	
-	public Employee employeeLogin(Employee employee);
+	/**
+	 * Check login credentials
+	 * @param employee Email and password to check
+	 * @return Response projection of the matching employee, or null if the credentials do not match
+	 */
+	public EmployeeResponseDTO employeeLogin(Employee employee);
 
-	public List<Employee> addMultipleEmployees(List<@Valid Employee> employees);
+	public BulkImportResult addMultipleEmployees(List<Employee> employees);
+	
+	/**
+	 * Import employees from a CSV stream, reading and inserting one bounded batch at a time
+	 * Only rejected rows are listed in the result (up to a fixed limit); accepted rows are counted
+	 * @param csv CSV content with a header line
+	 * @param importId Identifier under which progress is reported
+	 * @return Import totals and rejected rows
+	 */
+	public BulkImportResult importEmployeesCsv(InputStream csv, String importId);
+	
+	/**
+	 * Get the progress of a running or recently finished CSV import
+	 * @param importId Import identifier
+	 * @return Progress, or null if the import is unknown
+	 */
+	public ImportProgress getImportProgress(String importId);
 	
 	public Employee updateEmployeeSettings(int empId, String empName, String phoneNo);
 	
 	public boolean isEmailAvailable(String email);
 	
 	public boolean isPhoneAvailable(String phone);
+	
+	/**
+	 * Bulk import result with one entry per submitted row
+	 */
+	class BulkImportResult {
+		private int totalRows;
+		private int accepted;
+		private int rejected;
+		private long durationMs;
+		private List<RowResult> rows;
+		
+		public BulkImportResult(int totalRows, int accepted, int rejected, long durationMs, List<RowResult> rows) {
+			this.totalRows = totalRows;
+			this.accepted = accepted;
+			this.rejected = rejected;
+			this.durationMs = durationMs;
+			this.rows = rows;
+		}
+		
+		// Getters
+		public int getTotalRows() { return totalRows; }
+		public int getAccepted() { return accepted; }
+		public int getRejected() { return rejected; }
+		public long getDurationMs() { return durationMs; }
+		public List<RowResult> getRows() { return rows; }
+	}
+	
+	/**
+	 * Point-in-time progress of a CSV import
+	 */
+	class ImportProgress {
+		public static final String RUNNING = "RUNNING";
+		public static final String COMPLETED = "COMPLETED";
+		public static final String FAILED = "FAILED";
+		
+		private String importId;
+		private String status;
+		private int rowsRead;
+		private int accepted;
+		private int rejected;
+		private long elapsedMs;
+		private double rowsPerSecond;
+		
+		public ImportProgress(String importId, String status, int rowsRead, int accepted, int rejected, long elapsedMs) {
+			this.importId = importId;
+			this.status = status;
+			this.rowsRead = rowsRead;
+			this.accepted = accepted;
+			this.rejected = rejected;
+			this.elapsedMs = elapsedMs;
+			this.rowsPerSecond = elapsedMs > 0 ? rowsRead * 1000.0 / elapsedMs : 0;
+		}
+		
+		// Getters
+		public String getImportId() { return importId; }
+		public String getStatus() { return status; }
+		public int getRowsRead() { return rowsRead; }
+		public int getAccepted() { return accepted; }
+		public int getRejected() { return rejected; }
+		public long getElapsedMs() { return elapsedMs; }
+		public double getRowsPerSecond() { return rowsPerSecond; }
+	}
+	
+	/**
+	 * Outcome of a single row within a bulk import (row numbers start at 1)
+	 */
+	class RowResult {
+		public static final String ACCEPTED = "ACCEPTED";
+		public static final String REJECTED = "REJECTED";
+		
+		private int rowNumber;
+		private String status;
+		private Integer empId;
+		private String email;
+		private List<String> errors;
+		
+		public RowResult(int rowNumber, String status, Integer empId, String email, List<String> errors) {
+			this.rowNumber = rowNumber;
+			this.status = status;
+			this.empId = empId;
+			this.email = email;
+			this.errors = errors;
+		}
+		
+		public static RowResult accepted(int rowNumber, int empId, String email) {
+			return new RowResult(rowNumber, ACCEPTED, empId, email, List.of());
+		}
+		
+		public static RowResult rejected(int rowNumber, String email, List<String> errors) {
+			return new RowResult(rowNumber, REJECTED, null, email, errors);
+		}
+		
+		// Getters
+		public int getRowNumber() { return rowNumber; }
+		public String getStatus() { return status; }
+		public Integer getEmpId() { return empId; }
+		public String getEmail() { return email; }
+		public List<String> getErrors() { return errors; }
+	}
 
 }
@@ -1,43 +1,112 @@
 package com.example.demo.serviceimpl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.Session;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.demo.dto.EmployeePageDTO;
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.EmployeeSummaryDTO;
 import com.example.demo.exception.DepartmentDataException;
 import com.example.demo.model.Department;
 import com.example.demo.model.Employee;
+import com.example.demo.repository.DepartmentRepository;
 import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.EmployeeRepository.EmployeeContact;
 import com.example.demo.service.DatabaseConnectionService;
 import com.example.demo.service.DepartmentService;
 import com.example.demo.service.DepartmentValidationService;
+import com.example.demo.service.EmployeeContactIndex;
+import com.example.demo.service.EmployeeInputValidator;
 import com.example.demo.service.EmployeeService;
 
-import jakarta.validation.Valid;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class EmployeeServiceImpl implements EmployeeService{
 	
 	private static final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
 	
+	// Upper bound on the page size accepted by the paginated listing
+	private static final int MAX_PAGE_SIZE = 200;
+	
+	// Upper bound on the number of values bound into one IN clause
+	private static final int MAX_IN_CLAUSE_SIZE = 1000;
+	
+	// Upper bound on rejected rows listed in a CSV import result
+	private static final int MAX_REPORTED_REJECTIONS = 1000;
+	
+	// Number of finished CSV imports whose progress is retained
+	private static final int MAX_TRACKED_IMPORTS = 50;
+	
 	@Autowired
 	private EmployeeRepository employeeRepository;
 	
 	@Autowired
 	private DepartmentService departmentService;
 	
+	@Autowired
+	private DepartmentRepository departmentRepository;
+	
 	@Autowired
 	private DepartmentValidationService departmentValidationService;
 	
 	@Autowired
 	private DatabaseConnectionService databaseConnectionService;
 	
+	@Autowired
+	private EmployeeInputValidator employeeInputValidator;
+	
+	@Autowired
+	private EmployeeContactIndex employeeContactIndex;
+	
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	
+	@PersistenceContext
+	private EntityManager entityManager;
+	
+	// Rows per insert transaction and JDBC batch in the bulk import
+	@Value("${app.employee.bulk.batch-size:100}")
+	private int bulkBatchSize;
+	
+	// Progress of running and recently finished CSV imports, oldest evicted first
+	private final Map<String, ImportProgress> importProgress = Collections.synchronizedMap(
+		new LinkedHashMap<String, ImportProgress>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ImportProgress> eldest) {
+				return size() > MAX_TRACKED_IMPORTS;
+			}
+		});
+	
 	@Override
+	@CacheEvict(value = "departmentSummary", allEntries = true)
 	public Employee addEmployee(Employee employee, int deptId) {
 		logger.info("Adding employee with department ID: {}", deptId);
 		try {
@@ -56,8 +125,11 @@ public class EmployeeServiceImpl implements EmployeeService{
 			
 			employee.setDepartment(department);
 			
-			// Use connection retry logic for database save operation
-			Employee savedEmployee = databaseConnectionService.executeWithRetry(
+			// Index the contact details before saving so availability checks never miss a committed row
+			employeeContactIndex.add(employee.getEmail(), employee.getPhoneNo());
+			
+			// Run database save operation through the circuit breaker and concurrency limiter
+			Employee savedEmployee = databaseConnectionService.executeGuarded(
 				() -> employeeRepository.save(employee),
 				"addEmployee"
 			);
@@ -74,6 +146,9 @@ public class EmployeeServiceImpl implements EmployeeService{
 			return savedEmployee;
 		} catch (DepartmentDataException ex) {
 			throw ex; // Re-throw department-specific exceptions
+		} catch (IllegalArgumentException ex) {
+			logger.warn("Rejected employee for department ID {}: {}", deptId, ex.getMessage());
+			throw ex; // Re-throw to be handled by GlobalExceptionHandler
 		} catch (Exception ex) {
 			logger.error("Error adding employee with department ID: {}", deptId, ex);
 			throw new RuntimeException("Failed to add employee: " + ex.getMessage(), ex);
@@ -81,27 +156,15 @@ public class EmployeeServiceImpl implements EmployeeService{
 	}
 	
 	@Override
-	public List<Employee> getAllEmployee() {
+	public List<EmployeeResponseDTO> getAllEmployee() {
 		logger.info("Fetching all employees with department information");
 		try {
-			// Use connection retry logic for database fetch operation
-			List<Employee> employees = databaseConnectionService.executeWithRetry(
-				() -> employeeRepository.findAllWithDepartment(),
+			// Run database fetch operation through the circuit breaker and concurrency limiter
+			List<EmployeeResponseDTO> employees = databaseConnectionService.executeGuarded(
+				() -> employeeRepository.findAllResponses(),
 				"getAllEmployees"
 			);
 			
-			// Enhanced department validation and logging for each employee
-			employees.forEach(employee -> {
-				try {
-					departmentValidationService.validateDepartmentData(employee);
-					String departmentName = departmentValidationService.handleDepartmentDataGracefully(employee, "get_all_employees");
-					logger.debug("Employee {} department: {}", employee.getEmpId(), departmentName);
-				} catch (DepartmentDataException ex) {
-					logger.warn("Department validation failed for employee {}: {}", employee.getEmpId(), ex.getMessage());
-					departmentValidationService.logDepartmentIssue(employee.getEmpId(), null, "VALIDATION_FAILED_GET_ALL");
-				}
-			});
-			
 			logger.info("Successfully fetched {} employees with department data", employees.size());
 			return employees;
 		} catch (Exception ex) {
@@ -110,27 +173,70 @@ public class EmployeeServiceImpl implements EmployeeService{
 		}
 	}
 
+	@Override
+	public CompletableFuture<List<EmployeeResponseDTO>> getAllEmployeeAsync() {
+		logger.info("Fetching all employees with department information asynchronously");
+		return databaseConnectionService.executeWithRetryAsync(
+			() -> employeeRepository.findAllResponses(),
+			"getAllEmployees"
+		);
+	}
+
+	@Override
+	public long getEmployeeCount() {
+		logger.debug("Counting employees");
+		try {
+			// Run database count operation through the circuit breaker and concurrency limiter
+			return databaseConnectionService.executeGuarded(
+				() -> employeeRepository.count(),
+				"getEmployeeCount"
+			);
+		} catch (Exception ex) {
+			logger.error("Error counting employees", ex);
+			throw new RuntimeException("Failed to count employees: " + ex.getMessage(), ex);
+		}
+	}
+	
+	@Override
+	public EmployeePageDTO getEmployeePage(Integer afterId, int size, Integer deptId, String role, String gender,
+			LocalDate joinedFrom, LocalDate joinedTo) {
+		if (size <= 0 || size > MAX_PAGE_SIZE) {
+			throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+		}
+		if (joinedFrom != null && joinedTo != null && joinedFrom.isAfter(joinedTo)) {
+			throw new IllegalArgumentException("joinedFrom must not be after joinedTo");
+		}
+		int cursor = afterId != null ? afterId : 0;
+		logger.debug("Fetching employee page after ID: {} with size: {}", cursor, size);
+		
+		// Fetch one extra row to find out whether another page follows
+		List<EmployeeSummaryDTO> rows = databaseConnectionService.executeGuarded(
+			() -> employeeRepository.findSummariesAfter(cursor, deptId, blankToNull(role), blankToNull(gender),
+				joinedFrom, joinedTo, PageRequest.of(0, size + 1)),
+			"getEmployeePage"
+		);
+		
+		boolean hasMore = rows.size() > size;
+		List<EmployeeSummaryDTO> items = hasMore ? rows.subList(0, size) : rows;
+		logger.debug("Fetched {} employees after ID: {}, more pages: {}", items.size(), cursor, hasMore);
+		return new EmployeePageDTO(items, hasMore);
+	}
+	
+	private static String blankToNull(String value) {
+		return value == null || value.trim().isEmpty() ? null : value.trim();
+	}
+
 	@Override
 	public Employee getEmployeeById(int empId) {
 		logger.info("Fetching employee with ID: {} including department information", empId);
 		try {
-			// Use connection retry logic for database fetch operation
-			Employee employee = databaseConnectionService.executeWithRetry(
+			// Run database fetch operation through the circuit breaker and concurrency limiter
+			Employee employee = databaseConnectionService.executeGuarded(
 				() -> employeeRepository.findByIdWithDepartment(empId)
 					.orElseThrow(() -> new RuntimeException("Employee not found with ID: " + empId)),
 				"getEmployeeById"
 			);
 			
-			// Enhanced department validation and logging
-			try {
-				departmentValidationService.validateDepartmentData(employee);
-				String departmentName = departmentValidationService.handleDepartmentDataGracefully(employee, "get_employee_by_id");
-				logger.debug("Employee {} department: {}", empId, departmentName);
-			} catch (DepartmentDataException ex) {
-				logger.warn("Department validation failed for employee {}: {}", empId, ex.getMessage());
-				departmentValidationService.logDepartmentIssue(empId, null, "VALIDATION_FAILED_GET_BY_ID");
-			}
-			
 			return employee;
 		} catch (Exception ex) {
 			logger.error("Error fetching employee with ID: {}", empId, ex);
@@ -139,13 +245,24 @@ public class EmployeeServiceImpl implements EmployeeService{
 	}
 
 	@Override
+	public CompletableFuture<EmployeeResponseDTO> getEmployeeByIdAsync(int empId) {
+		logger.info("Fetching employee with ID: {} asynchronously", empId);
+		return databaseConnectionService.executeWithRetryAsync(
+			() -> employeeRepository.findResponseById(empId)
+				.orElseThrow(() -> new RuntimeException("Employee not found with ID: " + empId)),
+			"getEmployeeById"
+		);
+	}
+
+	@Override
+	@CacheEvict(value = "departmentSummary", allEntries = true)
 	public void deleteEmployeeById(int empId) {
 		logger.info("Deleting employee with ID: {}", empId);
 		try {
 			Employee employee = getEmployeeById(empId); // This already uses department-aware method
 			
-			// Use connection retry logic for database delete operation
-			databaseConnectionService.executeWithRetry(
+			// Run database delete operation through the circuit breaker and concurrency limiter
+			databaseConnectionService.executeGuarded(
 				() -> {
 					employeeRepository.deleteById(employee.getEmpId());
 					return null; // Void operation
@@ -192,8 +309,10 @@ public class EmployeeServiceImpl implements EmployeeService{
 				oldemployee.setRole(newemployee.getRole());
 			}
 			
-			// Use connection retry logic for database update operation
-			Employee updatedEmployee = databaseConnectionService.executeWithRetry(
+			employeeContactIndex.add(oldemployee.getEmail(), oldemployee.getPhoneNo());
+			
+			// Run database update operation through the circuit breaker and concurrency limiter
+			Employee updatedEmployee = databaseConnectionService.executeGuarded(
 				() -> employeeRepository.save(oldemployee),
 				"updateEmployeeById"
 			);
@@ -207,28 +326,18 @@ public class EmployeeServiceImpl implements EmployeeService{
 	}
 
 	@Override
-	public Employee employeeLogin(Employee employee) {
+	public EmployeeResponseDTO employeeLogin(Employee employee) {
 		logger.info("Attempting login for employee with email: {}", employee.getEmail());
 		try {
-			// Use connection retry logic for database login operation
-			Employee loggedInEmployee = databaseConnectionService.executeWithRetry(
-				() -> employeeRepository.findByEmailAndPasswordWithDepartment(
+			// Run database login operation through the circuit breaker and concurrency limiter
+			EmployeeResponseDTO loggedInEmployee = databaseConnectionService.executeGuarded(
+				() -> employeeRepository.findResponseByEmailAndPassword(
 					employee.getEmail(), employee.getPassword()).orElse(null),
 				"employeeLogin"
 			);
 			
 			if (loggedInEmployee != null) {
 				logger.info("Successful login for employee ID: {}", loggedInEmployee.getEmpId());
-				
-				// Enhanced department validation and logging for login
-				try {
-					departmentValidationService.validateDepartmentData(loggedInEmployee);
-					String departmentName = departmentValidationService.handleDepartmentDataGracefully(loggedInEmployee, "employee_login");
-					logger.debug("Logged in employee {} department: {}", loggedInEmployee.getEmpId(), departmentName);
-				} catch (DepartmentDataException ex) {
-					logger.warn("Department validation failed for logged in employee {}: {}", loggedInEmployee.getEmpId(), ex.getMessage());
-					departmentValidationService.logDepartmentIssue(loggedInEmployee.getEmpId(), null, "VALIDATION_FAILED_LOGIN");
-				}
 			} else {
 				logger.warn("Failed login attempt for email: {}", employee.getEmail());
 			}
@@ -241,20 +350,317 @@ public class EmployeeServiceImpl implements EmployeeService{
 	}
 
 	@Override
-	public List<Employee> addMultipleEmployees(List<@Valid Employee> employees) {
-		logger.info("Adding {} employees in batch", employees.size());
+	@CacheEvict(value = "departmentSummary", allEntries = true)
+	public BulkImportResult addMultipleEmployees(List<Employee> employees) {
+		logger.info("Importing {} employees in bulk", employees.size());
+		long startTime = System.currentTimeMillis();
+		int[] rowNumbers = new int[employees.size()];
+		for (int i = 0; i < rowNumbers.length; i++) {
+			rowNumbers[i] = i + 1;
+		}
+		
+		List<RowResult> rows = Arrays.asList(importRows(employees, rowNumbers));
+		int accepted = (int) rows.stream().filter(row -> RowResult.ACCEPTED.equals(row.getStatus())).count();
+		long durationMs = System.currentTimeMillis() - startTime;
+		logger.info("Bulk import completed in {}ms: {} accepted, {} rejected",
+			durationMs, accepted, employees.size() - accepted);
+		return new BulkImportResult(employees.size(), accepted, employees.size() - accepted, durationMs, rows);
+	}
+	
+	@Override
+	@CacheEvict(value = "departmentSummary", allEntries = true)
+	public BulkImportResult importEmployeesCsv(InputStream csv, String importId) {
+		logger.info("Starting CSV employee import {}", importId);
+		long startTime = System.currentTimeMillis();
+		int batchSize = Math.max(1, bulkBatchSize);
+		Map<String, Department> departmentsByName = loadDepartmentsByName();
+		
+		List<RowResult> rejectedRows = new ArrayList<>();
+		List<Employee> batch = new ArrayList<>(batchSize);
+		int[] rowNumbers = new int[batchSize];
+		int rowsRead = 0;
+		int accepted = 0;
+		int rejected = 0;
+		importProgress.put(importId, new ImportProgress(importId, ImportProgress.RUNNING, 0, 0, 0, 0));
+		
+		try (EmployeeCsvReader reader = new EmployeeCsvReader(csv)) {
+			EmployeeCsvReader.Row row;
+			while ((row = reader.next()) != null) {
+				rowsRead++;
+				Employee employee = row.getEmployee();
+				List<String> errors = row.getErrors();
+				
+				// Resolve the department name through the preloaded map
+				if (row.getDepartmentName() != null) {
+					Department department = departmentsByName.get(row.getDepartmentName().toLowerCase(Locale.ROOT));
+					if (department == null) {
+						errors.add("department: Unknown department: " + row.getDepartmentName());
+					}
+					employee.setDepartment(department);
+				}
+				
+				if (!errors.isEmpty()) {
+					rejected++;
+					addRejectedRow(rejectedRows, RowResult.rejected(row.getRowNumber(), employee.getEmail(), errors));
+					continue;
+				}
+				
+				rowNumbers[batch.size()] = row.getRowNumber();
+				batch.add(employee);
+				if (batch.size() == batchSize) {
+					int batchAccepted = importCsvBatch(batch, rowNumbers, rejectedRows);
+					accepted += batchAccepted;
+					rejected += batch.size() - batchAccepted;
+					batch.clear();
+					
+					ImportProgress progress = new ImportProgress(importId, ImportProgress.RUNNING, rowsRead, accepted, rejected,
+						System.currentTimeMillis() - startTime);
+					importProgress.put(importId, progress);
+					logger.info("CSV import {}: {} rows read, {} accepted, {} rejected ({} rows/s)",
+						importId, rowsRead, accepted, rejected, String.format("%.0f", progress.getRowsPerSecond()));
+				}
+			}
+			
+			if (!batch.isEmpty()) {
+				int batchAccepted = importCsvBatch(batch, rowNumbers, rejectedRows);
+				accepted += batchAccepted;
+				rejected += batch.size() - batchAccepted;
+			}
+		} catch (IOException ex) {
+			importProgress.put(importId, new ImportProgress(importId, ImportProgress.FAILED, rowsRead, accepted, rejected,
+				System.currentTimeMillis() - startTime));
+			logger.error("CSV import {} failed after {} rows", importId, rowsRead, ex);
+			throw new RuntimeException("Failed to read CSV import: " + ex.getMessage(), ex);
+		} catch (RuntimeException ex) {
+			importProgress.put(importId, new ImportProgress(importId, ImportProgress.FAILED, rowsRead, accepted, rejected,
+				System.currentTimeMillis() - startTime));
+			throw ex;
+		}
+		
+		long durationMs = System.currentTimeMillis() - startTime;
+		importProgress.put(importId, new ImportProgress(importId, ImportProgress.COMPLETED, rowsRead, accepted, rejected, durationMs));
+		logger.info("CSV import {} completed in {}ms: {} rows, {} accepted, {} rejected",
+			importId, durationMs, rowsRead, accepted, rejected);
+		return new BulkImportResult(rowsRead, accepted, rejected, durationMs, rejectedRows);
+	}
+	
+	@Override
+	public ImportProgress getImportProgress(String importId) {
+		return importProgress.get(importId);
+	}
+	
+	/**
+	 * Map of lower-cased department name to department, loaded once per import
+	 */
+	private Map<String, Department> loadDepartmentsByName() {
+		List<Department> departments = databaseConnectionService.executeGuarded(
+			() -> departmentRepository.findAll(),
+			"loadDepartmentsByName"
+		);
+		Map<String, Department> departmentsByName = new HashMap<>();
+		for (Department department : departments) {
+			if (department.getDeptName() != null) {
+				departmentsByName.put(department.getDeptName().trim().toLowerCase(Locale.ROOT), department);
+			}
+		}
+		return departmentsByName;
+	}
+	
+	/**
+	 * Import one parsed CSV batch and collect its rejected rows
+	 * @return Number of accepted rows
+	 */
+	private int importCsvBatch(List<Employee> batch, int[] rowNumbers, List<RowResult> rejectedRows) {
+		int accepted = 0;
+		for (RowResult result : importRows(batch, Arrays.copyOf(rowNumbers, batch.size()))) {
+			if (RowResult.ACCEPTED.equals(result.getStatus())) {
+				accepted++;
+			} else {
+				addRejectedRow(rejectedRows, result);
+			}
+		}
+		return accepted;
+	}
+	
+	private void addRejectedRow(List<RowResult> rejectedRows, RowResult result) {
+		if (rejectedRows.size() < MAX_REPORTED_REJECTIONS) {
+			rejectedRows.add(result);
+		}
+	}
+	
+	/**
+	 * Run the import pipeline for one group of rows: validate, pre-check uniqueness, insert in batches
+	 * @param employees Rows to import
+	 * @param rowNumbers Source row number of each entry, used in the report
+	 * @return Result per row, in input order
+	 */
+	private RowResult[] importRows(List<Employee> employees, int[] rowNumbers) {
+		RowResult[] results = new RowResult[employees.size()];
+		
+		// Validate every row up front; only rows without errors are sent to the database
+		// (Hibernate still bean-validates each entity on persist; this pass keeps invalid rows out of the JDBC batches)
+		List<Integer> candidates = validateImportRows(employees, rowNumbers, results);
+		candidates = rejectExistingContacts(employees, candidates, rowNumbers, results);
+		
+		int batchSize = Math.max(1, bulkBatchSize);
+		for (int from = 0; from < candidates.size(); from += batchSize) {
+			List<Integer> batch = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+			insertImportBatch(employees, batch, rowNumbers, results, batchSize);
+		}
+		return results;
+	}
+	
+	/**
+	 * Validate each row and reject duplicate emails/phones within the request itself
+	 * @return Indices of rows that passed validation
+	 */
+	private List<Integer> validateImportRows(List<Employee> employees, int[] rowNumbers, RowResult[] results) {
+		List<Integer> valid = new ArrayList<>();
+		Set<String> seenEmails = new HashSet<>();
+		Set<String> seenPhones = new HashSet<>();
+		List<List<String>> validationErrors = employeeInputValidator.validate(employees);
+		
+		for (int i = 0; i < employees.size(); i++) {
+			Employee employee = employees.get(i);
+			List<String> errors = validationErrors.get(i);
+			if (employee == null) {
+				results[i] = RowResult.rejected(rowNumbers[i], null, errors);
+				continue;
+			}
+			
+			if (employee.getEmail() != null && !seenEmails.add(emailKey(employee.getEmail()))) {
+				errors.add("email: Duplicate email within import");
+			}
+			if (employee.getPhoneNo() != null && !seenPhones.add(employee.getPhoneNo())) {
+				errors.add("phoneNo: Duplicate phone number within import");
+			}
+			
+			if (errors.isEmpty()) {
+				valid.add(i);
+			} else {
+				results[i] = RowResult.rejected(rowNumbers[i], employee.getEmail(), errors);
+			}
+		}
+		return valid;
+	}
+	
+	/**
+	 * Reject rows whose email or phone number already belongs to a stored employee,
+	 * looking up each group of candidates with a single IN query
+	 * @return Indices of rows that remain insertable
+	 */
+	private List<Integer> rejectExistingContacts(List<Employee> employees, List<Integer> candidates, int[] rowNumbers,
+			RowResult[] results) {
+		Set<String> existingEmails = new HashSet<>();
+		Set<String> existingPhones = new HashSet<>();
+		
+		for (int from = 0; from < candidates.size(); from += MAX_IN_CLAUSE_SIZE) {
+			List<Integer> group = candidates.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, candidates.size()));
+			List<String> emails = new ArrayList<>();
+			List<String> phones = new ArrayList<>();
+			for (int index : group) {
+				Employee employee = employees.get(index);
+				if (employee.getEmail() != null) {
+					emails.add(employee.getEmail());
+				}
+				phones.add(employee.getPhoneNo());
+			}
+			
+			List<EmployeeContact> contacts = databaseConnectionService.executeGuarded(
+				() -> employeeRepository.findContactsByEmailInOrPhoneNoIn(emails, phones),
+				"findContactsByEmailInOrPhoneNoIn"
+			);
+			for (EmployeeContact contact : contacts) {
+				if (contact.getEmail() != null) {
+					existingEmails.add(emailKey(contact.getEmail()));
+				}
+				existingPhones.add(contact.getPhoneNo());
+			}
+		}
+		
+		List<Integer> remaining = new ArrayList<>();
+		for (int index : candidates) {
+			Employee employee = employees.get(index);
+			List<String> errors = new ArrayList<>();
+			if (employee.getEmail() != null && existingEmails.contains(emailKey(employee.getEmail()))) {
+				errors.add("email: Email is already registered");
+			}
+			if (existingPhones.contains(employee.getPhoneNo())) {
+				errors.add("phoneNo: Phone number is already registered");
+			}
+			
+			if (errors.isEmpty()) {
+				remaining.add(index);
+			} else {
+				results[index] = RowResult.rejected(rowNumbers[index], employee.getEmail(), errors);
+			}
+		}
+		return remaining;
+	}
+	
+	/**
+	 * Key for comparing emails the way the database does: the email column's collation and unique index are
+	 * case-insensitive, so A@x.com and a@x.com are the same address
+	 */
+	private static String emailKey(String email) {
+		return email.toLowerCase(Locale.ROOT);
+	}
+	
+	/**
+	 * Insert one batch of validated rows in its own transaction using JDBC batching.
+	 * If the batch fails (e.g. a concurrent insert took an email), its rows are retried one by one
+	 * so only the offending rows are rejected.
+	 */
+	private void insertImportBatch(List<Employee> employees, List<Integer> batch, int[] rowNumbers, RowResult[] results,
+			int batchSize) {
+		List<Employee> rows = new ArrayList<>(batch.size());
+		for (int index : batch) {
+			Employee employee = employees.get(index);
+			// Bulk import always creates new employees
+			employee.setEmpId(0);
+			employeeContactIndex.add(employee.getEmail(), employee.getPhoneNo());
+			rows.add(employee);
+		}
+		
 		try {
-			// Use connection retry logic for database batch save operation
-			List<Employee> savedEmployees = databaseConnectionService.executeWithRetry(
-				() -> employeeRepository.saveAll(employees),
+			databaseConnectionService.executeGuarded(() -> {
+				new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+					entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+					employeeRepository.saveAll(rows);
+					entityManager.flush();
+					entityManager.clear();
+				});
+				return null;
+			}, "addMultipleEmployees");
+			
+			for (int index : batch) {
+				Employee employee = employees.get(index);
+				results[index] = RowResult.accepted(rowNumbers[index], employee.getEmpId(), employee.getEmail());
+			}
+			logger.debug("Inserted import batch of {} employees", rows.size());
+		} catch (Exception ex) {
+			logger.warn("Import batch of {} employees failed, retrying rows individually: {}", rows.size(), ex.getMessage());
+			for (int index : batch) {
+				insertImportRow(employees.get(index), index, rowNumbers[index], results);
+			}
+		}
+	}
+	
+	private void insertImportRow(Employee employee, int index, int rowNumber, RowResult[] results) {
+		employee.setEmpId(0);
+		try {
+			Employee saved = databaseConnectionService.executeGuarded(
+				() -> new TransactionTemplate(transactionManager).execute(status -> employeeRepository.save(employee)),
 				"addMultipleEmployees"
 			);
-			
-			logger.info("Successfully added {} employees in batch", savedEmployees.size());
-			return savedEmployees;
+			results[index] = RowResult.accepted(rowNumber, saved.getEmpId(), saved.getEmail());
 		} catch (Exception ex) {
-			logger.error("Error adding multiple employees", ex);
-			throw new RuntimeException("Failed to add multiple employees: " + ex.getMessage(), ex);
+			Throwable cause = ex;
+			while (cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			logger.warn("Import row {} rejected: {}", rowNumber, cause.getMessage());
+			results[index] = RowResult.rejected(rowNumber, employee.getEmail(), List.of(cause.getMessage()));
 		}
 	}
 
@@ -273,12 +679,12 @@ public class EmployeeServiceImpl implements EmployeeService{
 			}
 			
 			// Additional validation for name format
-			if (empName != null && !empName.matches("^[a-zA-Z\\s\\-']+$")) {
+			if (empName != null && !employeeInputValidator.isValidName(empName)) {
 				throw new IllegalArgumentException("Name can only contain letters, spaces, hyphens, and apostrophes");
 			}
 			
 			// Additional validation for phone format
-			if (phoneNo != null && !phoneNo.matches("^[0-9]{10}$")) {
+			if (phoneNo != null && !employeeInputValidator.isValidPhone(phoneNo)) {
 				throw new IllegalArgumentException("Phone number must be exactly 10 digits");
 			}
 			
@@ -293,8 +699,8 @@ public class EmployeeServiceImpl implements EmployeeService{
 			
 			// Check if phone number is being changed and if it already exists
 			if (phoneNo != null && !phoneNo.equals(originalPhone)) {
-				// Use connection retry logic for database existence check
-				boolean phoneExists = databaseConnectionService.executeWithRetry(
+				// Run database existence check through the circuit breaker and concurrency limiter
+				boolean phoneExists = databaseConnectionService.executeGuarded(
 					() -> employeeRepository.existsByPhoneNoAndEmpIdNot(phoneNo, empId),
 					"checkPhoneNumberExists"
 				);
@@ -313,8 +719,10 @@ public class EmployeeServiceImpl implements EmployeeService{
 				employee.setPhoneNo(phoneNo.trim());
 			}
 			
-			// Use connection retry logic for database save operation
-			Employee updatedEmployee = databaseConnectionService.executeWithRetry(
+			employeeContactIndex.add(null, employee.getPhoneNo());
+			
+			// Run database save operation through the circuit breaker and concurrency limiter
+			Employee updatedEmployee = databaseConnectionService.executeGuarded(
 				() -> employeeRepository.save(employee),
 				"updateEmployeeSettings"
 			);
@@ -344,7 +752,7 @@ public class EmployeeServiceImpl implements EmployeeService{
 
 	@Override
 	public boolean isEmailAvailable(String email) {
-		logger.info("Checking email availability for: {}", email);
+		logger.debug("Checking email availability for: {}", email);
 		try {
 			// Validate email format
 			if (email == null || email.trim().isEmpty()) {
@@ -352,18 +760,19 @@ public class EmployeeServiceImpl implements EmployeeService{
 			}
 			
 			// Basic email format validation
-			if (!email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")) {
+			if (!employeeInputValidator.isValidEmail(email)) {
 				throw new IllegalArgumentException("Invalid email format");
 			}
 			
-			// Use connection retry logic for database existence check
-			boolean emailExists = databaseConnectionService.executeWithRetry(
-				() -> employeeRepository.existsByEmail(email.trim()),
-				"checkEmailExists"
-			);
+			// The contact index answers definite misses; possible matches are confirmed in the database
+			boolean emailExists = employeeContactIndex.mightContainEmail(email)
+				&& databaseConnectionService.executeGuarded(
+					() -> employeeRepository.existsByEmail(email.trim()),
+					"checkEmailExists"
+				);
 			
 			boolean isAvailable = !emailExists;
-			logger.info("Email availability check for {}: {}", email, isAvailable ? "available" : "taken");
+			logger.debug("Email availability check for {}: {}", email, isAvailable ? "available" : "taken");
 			return isAvailable;
 			
 		} catch (IllegalArgumentException ex) {
@@ -377,7 +786,7 @@ public class EmployeeServiceImpl implements EmployeeService{
 
 	@Override
 	public boolean isPhoneAvailable(String phone) {
-		logger.info("Checking phone number availability for: {}", phone);
+		logger.debug("Checking phone number availability for: {}", phone);
 		try {
 			// Validate phone format
 			if (phone == null || phone.trim().isEmpty()) {
@@ -385,18 +794,19 @@ public class EmployeeServiceImpl implements EmployeeService{
 			}
 			
 			// Phone number format validation (10 digits)
-			if (!phone.matches("^[0-9]{10}$")) {
+			if (!employeeInputValidator.isValidPhone(phone)) {
 				throw new IllegalArgumentException("Phone number must be exactly 10 digits");
 			}
 			
-			// Use connection retry logic for database existence check
-			boolean phoneExists = databaseConnectionService.executeWithRetry(
-				() -> employeeRepository.existsByPhoneNo(phone.trim()),
-				"checkPhoneExists"
-			);
+			// The contact index answers definite misses; possible matches are confirmed in the database
+			boolean phoneExists = employeeContactIndex.mightContainPhone(phone)
+				&& databaseConnectionService.executeGuarded(
+					() -> employeeRepository.existsByPhoneNo(phone.trim()),
+					"checkPhoneExists"
+				);
 			
 			boolean isAvailable = !phoneExists;
-			logger.info("Phone availability check for {}: {}", phone, isAvailable ? "available" : "taken");
+			logger.debug("Phone availability check for {}: {}", phone, isAvailable ? "available" : "taken");
 			return isAvailable;
 			
 		} catch (IllegalArgumentException ex) {
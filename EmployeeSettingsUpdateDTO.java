@@ -1,5 +1,7 @@
 package com.example.demo.dto;
 
+import com.example.demo.model.EmployeeConstraints;
+
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -12,10 +14,10 @@ import jakarta.validation.constraints.Size;
 public class EmployeeSettingsUpdateDTO {
     
     @Size(min = 2, max = 30, message = "Name must be between 2 and 30 characters")
-    @Pattern(regexp = "^[a-zA-Z\\s\\-']+$", message = "Name can only contain letters, spaces, hyphens, and apostrophes")
+    @Pattern(regexp = EmployeeConstraints.NAME_REGEX, message = "Name can only contain letters, spaces, hyphens, and apostrophes")
     private String empName;
     
-    @Pattern(regexp = "^[0-9]{10}$", message = "Phone number must be exactly 10 digits")
+    @Pattern(regexp = EmployeeConstraints.PHONE_REGEX, message = "Phone number must be exactly 10 digits")
     private String phoneNo;
     
     /**
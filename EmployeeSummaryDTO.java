@@ -0,0 +1,130 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+import com.example.demo.dto.EmployeeResponseDTO.DepartmentDTO;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Read-only projection of an employee for list views.
+ * Populated directly by JPQL constructor expressions so no Employee entity is hydrated.
+ */
+public class EmployeeSummaryDTO {
+    
+    private int empId;
+    private String empName;
+    private String email;
+    private String phoneNo;
+    private String role;
+    private String gender;
+    private float salary;
+    
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate joiningDate;
+    
+    private DepartmentDTO department;
+    
+    // Default constructor
+    public EmployeeSummaryDTO() {
+    }
+    
+    // Constructor used by repository projection queries
+    public EmployeeSummaryDTO(int empId, String empName, String email, String phoneNo, String role,
+                              String gender, float salary, LocalDate joiningDate,
+                              Integer deptId, String deptName) {
+        this.empId = empId;
+        this.empName = empName;
+        this.email = email;
+        this.phoneNo = phoneNo;
+        this.role = role;
+        this.gender = gender;
+        this.salary = salary;
+        this.joiningDate = joiningDate;
+        this.department = deptId != null
+            ? new DepartmentDTO(deptId, deptName, null)
+            : new DepartmentDTO(0, "Department Not Assigned", null);
+    }
+    
+    // Getters and Setters
+    public int getEmpId() {
+        return empId;
+    }
+    
+    public void setEmpId(int empId) {
+        this.empId = empId;
+    }
+    
+    public String getEmpName() {
+        return empName;
+    }
+    
+    public void setEmpName(String empName) {
+        this.empName = empName;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getPhoneNo() {
+        return phoneNo;
+    }
+    
+    public void setPhoneNo(String phoneNo) {
+        this.phoneNo = phoneNo;
+    }
+    
+    public String getRole() {
+        return role;
+    }
+    
+    public void setRole(String role) {
+        this.role = role;
+    }
+    
+    public String getGender() {
+        return gender;
+    }
+    
+    public void setGender(String gender) {
+        this.gender = gender;
+    }
+    
+    public float getSalary() {
+        return salary;
+    }
+    
+    public void setSalary(float salary) {
+        this.salary = salary;
+    }
+    
+    public LocalDate getJoiningDate() {
+        return joiningDate;
+    }
+    
+    public void setJoiningDate(LocalDate joiningDate) {
+        this.joiningDate = joiningDate;
+    }
+    
+    public DepartmentDTO getDepartment() {
+        return department;
+    }
+    
+    public void setDepartment(DepartmentDTO department) {
+        this.department = department;
+    }
+    
+    @Override
+    public String toString() {
+        return "EmployeeSummaryDTO{" +
+                "empId=" + empId +
+                ", empName='" + empName + '\'' +
+                ", role='" + role + '\'' +
+                ", department=" + department +
+                '}';
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -96,12 +97,38 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 	
+	/**
+	 * Handle DatabaseUnavailableException - database circuit breaker is open
+	 * Returns HTTP 503 with a Retry-After header instead of a generic 500
+	 */
+	@ExceptionHandler(DatabaseUnavailableException.class)
+	public ResponseEntity<HashMap<String, String>> handleDatabaseUnavailableException(DatabaseUnavailableException ex) {
+		logger.warn("Request rejected while database is unavailable: {}", ex.getMessage());
+		
+		HashMap<String, String> errorResponse = new HashMap<>();
+		errorResponse.put("error", "Service unavailable");
+		errorResponse.put("message", "Database temporarily unavailable, please retry later");
+		errorResponse.put("timestamp", java.time.LocalDateTime.now().toString());
+		
+		long retryAfterSeconds = Math.max(1, (ex.getRetryAfterMs() + 999) / 1000);
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+				.body(errorResponse);
+	}
+	
 	/**
 	 * Handle DataAccessException - Requirement 4.3
 	 * Returns HTTP 500 with error message "Internal server error"
 	 */
 	@ExceptionHandler(DataAccessException.class)
 	public ResponseEntity<HashMap<String, String>> handleDataAccessException(DataAccessException ex) {
+		// Connections shed by the concurrency limiter may arrive wrapped by the persistence layer
+		for (Throwable cause = ex.getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+			if (cause instanceof DatabaseUnavailableException) {
+				return handleDatabaseUnavailableException((DatabaseUnavailableException) cause);
+			}
+		}
+		
 		logger.error("Database connection/access error: {}", ex.getMessage(), ex);
 		
 		HashMap<String, String> errorResponse = new HashMap<>();
@@ -118,6 +145,13 @@ public class GlobalExceptionHandler {
 	 */
 	@ExceptionHandler(RuntimeException.class)
 	public ResponseEntity<HashMap<String, String>> handleRuntimeException(RuntimeException ex) {
+		// Services wrap failures in RuntimeException; keep the 503 for circuit breaker rejections
+		for (Throwable cause = ex.getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+			if (cause instanceof DatabaseUnavailableException) {
+				return handleDatabaseUnavailableException((DatabaseUnavailableException) cause);
+			}
+		}
+		
 		logger.error("Runtime exception occurred: {}", ex.getMessage(), ex);
 		
 		HashMap<String, String> errorResponse = new HashMap<>();
@@ -46,6 +46,8 @@ public class HealthController {
             Map<String, Object> dbComponent = new HashMap<>();
             dbComponent.put("status", dbHealth.getStatus());
             dbComponent.put("details", dbHealth.getDetails());
+            dbComponent.put("checkedAt", dbHealth.getCheckedAt().toString());
+            dbComponent.put("ageMs", dbHealth.getAgeMs());
             
             components.put("db", dbComponent);
             health.put("components", components);
@@ -84,6 +86,8 @@ public class HealthController {
             health.put("status", dbHealth.getStatus());
             health.put("healthy", dbHealth.isHealthy());
             health.put("details", dbHealth.getDetails());
+            health.put("checkedAt", dbHealth.getCheckedAt().toString());
+            health.put("ageMs", dbHealth.getAgeMs());
             
             logger.debug("Database health status: {}", dbHealth.getStatus());
             
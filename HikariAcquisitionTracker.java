@@ -0,0 +1,129 @@
+package com.example.demo.config;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Records how long callers wait for a pooled connection.
+ * Installed as the Hikari metrics tracker before the pool starts, so every getConnection() reports its
+ * acquisition time, timeouts and how long the connection was held. Counters accumulate until the next
+ * {@link #drain()}, which ConnectionPoolSampler calls once per sampling interval.
+ * Pools that already have a metric registry or tracker configured are left untouched.
+ */
+@Component
+public class HikariAcquisitionTracker implements BeanPostProcessor, MetricsTrackerFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(HikariAcquisitionTracker.class);
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAccumulator maxUsageMillis = new LongAccumulator(Math::max, 0);
+
+    private volatile boolean installed;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof HikariDataSource) {
+            HikariDataSource hikariDS = (HikariDataSource) bean;
+            if (hikariDS.getMetricRegistry() == null && hikariDS.getMetricsTrackerFactory() == null) {
+                hikariDS.setMetricsTrackerFactory(this);
+                installed = true;
+                logger.info("Connection acquisition tracking installed on data source '{}'", beanName);
+            } else {
+                logger.info("Data source '{}' already has pool metrics configured; acquisition tracking disabled", beanName);
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquisitions.increment();
+                acquireNanos.add(elapsedAcquiredNanos);
+                maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                maxUsageMillis.accumulate(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    /**
+     * Whether acquisition times are being recorded for the application data source
+     */
+    public boolean isInstalled() {
+        return installed;
+    }
+
+    /**
+     * Return the counters recorded since the previous call and reset them.
+     * Acquisitions completing while the counters are read may be attributed to the next interval.
+     */
+    public AcquisitionStats drain() {
+        return new AcquisitionStats(acquisitions.sumThenReset(), acquireNanos.sumThenReset(),
+            maxAcquireNanos.getThenReset(), timeouts.sumThenReset(), maxUsageMillis.getThenReset());
+    }
+
+    /**
+     * Connection acquisition counters for one sampling interval
+     */
+    public static class AcquisitionStats {
+        private final long acquisitions;
+        private final long totalAcquireNanos;
+        private final long maxAcquireNanos;
+        private final long timeouts;
+        private final long maxUsageMillis;
+
+        public AcquisitionStats(long acquisitions, long totalAcquireNanos, long maxAcquireNanos,
+                                long timeouts, long maxUsageMillis) {
+            this.acquisitions = acquisitions;
+            this.totalAcquireNanos = totalAcquireNanos;
+            this.maxAcquireNanos = maxAcquireNanos;
+            this.timeouts = timeouts;
+            this.maxUsageMillis = maxUsageMillis;
+        }
+
+        public long getAcquisitions() {
+            return acquisitions;
+        }
+
+        public long getTotalAcquireNanos() {
+            return totalAcquireNanos;
+        }
+
+        public long getMaxAcquireNanos() {
+            return maxAcquireNanos;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public long getMaxUsageMillis() {
+            return maxUsageMillis;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.config;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+
+import com.example.demo.service.PerformanceMonitoringService;
+
+/**
+ * Cache decorator that reports every lookup as a hit or miss to the PerformanceMonitoringService
+ */
+public class InstrumentedCache implements Cache {
+    
+    private final Cache delegate;
+    private final PerformanceMonitoringService performanceMonitoringService;
+    
+    public InstrumentedCache(Cache delegate, PerformanceMonitoringService performanceMonitoringService) {
+        this.delegate = delegate;
+        this.performanceMonitoringService = performanceMonitoringService;
+    }
+    
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        performanceMonitoringService.recordCacheAccess(getName(), value != null);
+        return value;
+    }
+    
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        return value != null ? type.cast(value.get()) : null;
+    }
+    
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = {false};
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        performanceMonitoringService.recordCacheAccess(getName(), !loaded[0]);
+        return value;
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+    
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+    
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+    
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+    
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
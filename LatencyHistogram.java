@@ -0,0 +1,201 @@
+package com.example.demo.serviceimpl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free, log-bucketed latency histogram over a sliding time window.
+ * Latencies are recorded in microseconds into buckets that keep a relative error below 12.5%,
+ * and the window is made of fixed time slices that are replaced as they expire.
+ */
+public class LatencyHistogram {
+    
+    // Each power of two is split into 8 linear sub-buckets
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Covers latencies up to 2^40 microseconds (about 12 days)
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    
+    private final long sliceMillis;
+    private final AtomicReferenceArray<Slice> slices;
+    
+    /**
+     * @param windowMillis Length of the sliding window
+     * @param sliceCount Number of slices the window is divided into
+     */
+    public LatencyHistogram(long windowMillis, int sliceCount) {
+        this.sliceMillis = Math.max(1, windowMillis / sliceCount);
+        this.slices = new AtomicReferenceArray<>(sliceCount);
+    }
+    
+    /**
+     * Record one latency sample
+     * @param latencyMicros Latency in microseconds
+     */
+    public void record(long latencyMicros) {
+        record(latencyMicros, System.currentTimeMillis());
+    }
+    
+    void record(long latencyMicros, long nowMillis) {
+        long value = Math.max(0, latencyMicros);
+        currentSlice(nowMillis / sliceMillis).record(value);
+    }
+    
+    /**
+     * Take a snapshot of the samples recorded in the current window
+     */
+    public Snapshot snapshot() {
+        return snapshot(System.currentTimeMillis());
+    }
+    
+    Snapshot snapshot(long nowMillis) {
+        long currentEpoch = nowMillis / sliceMillis;
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        long sum = 0;
+        long max = 0;
+        
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            if (slice == null || slice.epoch <= currentEpoch - slices.length()) {
+                continue;
+            }
+            for (int b = 0; b < BUCKET_COUNT; b++) {
+                counts[b] += slice.counts.get(b);
+            }
+            count += slice.count.get();
+            sum += slice.sum.get();
+            max = Math.max(max, slice.max.get());
+        }
+        return new Snapshot(counts, count, sum, max);
+    }
+    
+    private Slice currentSlice(long epoch) {
+        int index = (int) (epoch % slices.length());
+        while (true) {
+            Slice slice = slices.get(index);
+            if (slice != null && slice.epoch == epoch) {
+                return slice;
+            }
+            if (slice != null && slice.epoch > epoch) {
+                // Another writer already rotated past this epoch; drop into the newer slice
+                return slice;
+            }
+            Slice fresh = new Slice(epoch);
+            if (slices.compareAndSet(index, slice, fresh)) {
+                return fresh;
+            }
+        }
+    }
+    
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+    
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+    
+    /**
+     * Counters for one time slice of the window
+     */
+    private static final class Slice {
+        private final long epoch;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+        
+        private Slice(long epoch) {
+            this.epoch = epoch;
+        }
+        
+        private void record(long value) {
+            counts.incrementAndGet(bucketIndex(value));
+            count.incrementAndGet();
+            sum.addAndGet(value);
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+    
+    /**
+     * Immutable view of the histogram over the current window
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+        
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public long getMax() {
+            return max;
+        }
+        
+        public double getMean() {
+            return count > 0 ? (double) sum / count : 0.0;
+        }
+        
+        /**
+         * Value at the given percentile, in microseconds
+         * @param percentile Percentile between 0 and 100
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+        
+        /**
+         * Summary of the snapshot in milliseconds, suitable for JSON responses
+         */
+        public Map<String, Object> toMillisSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            summary.put("mean", getMean() / 1000.0);
+            summary.put("p50", getValueAtPercentile(50) / 1000.0);
+            summary.put("p90", getValueAtPercentile(90) / 1000.0);
+            summary.put("p99", getValueAtPercentile(99) / 1000.0);
+            summary.put("p999", getValueAtPercentile(99.9) / 1000.0);
+            summary.put("max", max / 1000.0);
+            return summary;
+        }
+    }
+}
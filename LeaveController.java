@@ -1,6 +1,7 @@
 package com.example.demo.controller;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -31,14 +32,13 @@ public class LeaveController {
     }
 
     @GetMapping("/pending")
-    public List<Leave> getAllPendingLeaves() {
-        return leaveService.getAllPendingLeaves();
+    public CompletableFuture<List<Leave>> getAllPendingLeaves() {
+        return leaveService.getAllPendingLeavesAsync();
     }
     
     @GetMapping("/pending/count")
-    public ResponseEntity<Integer> getPendingLeavesCount() {
-        List<Leave> pendingLeaves = leaveService.getAllPendingLeaves();
-        return ResponseEntity.ok(pendingLeaves.size());
+    public CompletableFuture<ResponseEntity<Long>> getPendingLeavesCount() {
+        return leaveService.countPendingLeavesAsync().thenApply(ResponseEntity::ok);
     }
 
     @PutMapping("/approve/{leaveId}")
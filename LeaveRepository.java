@@ -8,5 +8,7 @@ import com.example.demo.model.Leave;
 
 public interface LeaveRepository extends JpaRepository<Leave, Long>{
 	List<Leave> findByStatus(String status);
+	
+	long countByStatus(String status);
 
 }
@@ -1,6 +1,7 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.example.demo.model.Leave;
 
@@ -8,6 +9,9 @@ public interface LeaveService {
 	
 	Leave applyLeave(Leave leave, int empId);
     List<Leave> getAllPendingLeaves();
+    CompletableFuture<List<Leave>> getAllPendingLeavesAsync();
+    long countPendingLeaves();
+    CompletableFuture<Long> countPendingLeavesAsync();
     Leave approveLeave(Long leaveId);
     Leave rejectLeave(Long leaveId);
 
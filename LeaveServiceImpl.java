@@ -1,6 +1,7 @@
 package com.example.demo.serviceimpl;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,8 +34,8 @@ public class LeaveServiceImpl implements LeaveService{
             leave.setEmployee(emp);
             leave.setStatus("PENDING");
             
-            // Use connection retry logic for database save operation
-            Leave savedLeave = databaseConnectionService.executeWithRetry(
+            // Run database save operation through the circuit breaker and concurrency limiter
+            Leave savedLeave = databaseConnectionService.executeGuarded(
                 () -> leaveRepo.save(leave),
                 "applyLeave"
             );
@@ -51,8 +52,8 @@ public class LeaveServiceImpl implements LeaveService{
     public List<Leave> getAllPendingLeaves() {
         logger.info("Fetching all pending leaves");
         try {
-            // Use connection retry logic for database fetch operation
-            List<Leave> pendingLeaves = databaseConnectionService.executeWithRetry(
+            // Run database fetch operation through the circuit breaker and concurrency limiter
+            List<Leave> pendingLeaves = databaseConnectionService.executeGuarded(
                 () -> leaveRepo.findByStatus("PENDING"),
                 "getAllPendingLeaves"
             );
@@ -65,12 +66,44 @@ public class LeaveServiceImpl implements LeaveService{
         }
     }
 
+    @Override
+    public CompletableFuture<List<Leave>> getAllPendingLeavesAsync() {
+        logger.info("Fetching all pending leaves asynchronously");
+        return databaseConnectionService.executeWithRetryAsync(
+            () -> leaveRepo.findByStatus("PENDING"),
+            "getAllPendingLeaves"
+        );
+    }
+
+    @Override
+    public long countPendingLeaves() {
+        logger.debug("Counting pending leaves");
+        try {
+            // Run database count operation through the circuit breaker and concurrency limiter
+            return databaseConnectionService.executeGuarded(
+                () -> leaveRepo.countByStatus("PENDING"),
+                "countPendingLeaves"
+            );
+        } catch (Exception ex) {
+            logger.error("Error counting pending leaves", ex);
+            throw new RuntimeException("Failed to count pending leaves: " + ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Long> countPendingLeavesAsync() {
+        return databaseConnectionService.executeWithRetryAsync(
+            () -> leaveRepo.countByStatus("PENDING"),
+            "countPendingLeaves"
+        );
+    }
+
     @Override
     public Leave approveLeave(Long leaveId) {
         logger.info("Approving leave with ID: {}", leaveId);
         try {
-            // Use connection retry logic for database fetch operation
-            Leave leave = databaseConnectionService.executeWithRetry(
+            // Run database fetch operation through the circuit breaker and concurrency limiter
+            Leave leave = databaseConnectionService.executeGuarded(
                 () -> leaveRepo.findById(leaveId).orElseThrow(() -> 
                     new RuntimeException("Leave not found with ID: " + leaveId)),
                 "findLeaveForApproval"
@@ -78,8 +111,8 @@ public class LeaveServiceImpl implements LeaveService{
             
             leave.setStatus("APPROVED");
             
-            // Use connection retry logic for database save operation
-            Leave approvedLeave = databaseConnectionService.executeWithRetry(
+            // Run database save operation through the circuit breaker and concurrency limiter
+            Leave approvedLeave = databaseConnectionService.executeGuarded(
                 () -> leaveRepo.save(leave),
                 "approveLeave"
             );
@@ -96,8 +129,8 @@ public class LeaveServiceImpl implements LeaveService{
     public Leave rejectLeave(Long leaveId) {
         logger.info("Rejecting leave with ID: {}", leaveId);
         try {
-            // Use connection retry logic for database fetch operation
-            Leave leave = databaseConnectionService.executeWithRetry(
+            // Run database fetch operation through the circuit breaker and concurrency limiter
+            Leave leave = databaseConnectionService.executeGuarded(
                 () -> leaveRepo.findById(leaveId).orElseThrow(() -> 
                     new RuntimeException("Leave not found with ID: " + leaveId)),
                 "findLeaveForRejection"
@@ -105,8 +138,8 @@ public class LeaveServiceImpl implements LeaveService{
             
             leave.setStatus("REJECTED");
             
-            // Use connection retry logic for database save operation
-            Leave rejectedLeave = databaseConnectionService.executeWithRetry(
+            // Run database save operation through the circuit breaker and concurrency limiter
+            Leave rejectedLeave = databaseConnectionService.executeGuarded(
                 () -> leaveRepo.save(leave),
                 "rejectLeave"
             );
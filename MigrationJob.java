@@ -0,0 +1,174 @@
+package com.example.demo.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Persistent state of a background data migration job.
+ * lastProcessedEmpId is the checkpoint: every employee with a lower or equal ID has been
+ * migrated and committed, so a resumed job continues after it.
+ */
+@Entity
+@Table(name = "migration_job_table")
+public class MigrationJob {
+	
+	public static final String STATUS_RUNNING = "RUNNING";
+	public static final String STATUS_COMPLETED = "COMPLETED";
+	public static final String STATUS_FAILED = "FAILED";
+	public static final String STATUS_CANCELLED = "CANCELLED";
+	// Job was running when the application stopped
+	public static final String STATUS_INTERRUPTED = "INTERRUPTED";
+	
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	
+	@Column(name = "job_type", length = 50, nullable = false)
+	private String jobType;
+	
+	@Column(name = "status", length = 20, nullable = false)
+	private String status;
+	
+	@Column(name = "last_processed_emp_id", nullable = false)
+	private int lastProcessedEmpId;
+	
+	@Column(name = "employees_processed", nullable = false)
+	private long employeesProcessed;
+	
+	@Column(name = "employees_total", nullable = false)
+	private long employeesTotal;
+	
+	@Column(name = "employees_updated", nullable = false)
+	private long employeesUpdated;
+	
+	@Column(name = "chunks_completed", nullable = false)
+	private int chunksCompleted;
+	
+	@Column(name = "started_at")
+	private LocalDateTime startedAt;
+	
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+	
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+	
+	@Column(name = "error_message", length = 500)
+	private String errorMessage;
+	
+	public MigrationJob() {
+	}
+	
+	public MigrationJob(String jobType) {
+		this.jobType = jobType;
+		this.status = STATUS_RUNNING;
+		this.startedAt = LocalDateTime.now();
+		this.updatedAt = this.startedAt;
+	}
+	
+	public boolean isResumable() {
+		return STATUS_FAILED.equals(status) || STATUS_CANCELLED.equals(status) || STATUS_INTERRUPTED.equals(status);
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getJobType() {
+		return jobType;
+	}
+
+	public void setJobType(String jobType) {
+		this.jobType = jobType;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public int getLastProcessedEmpId() {
+		return lastProcessedEmpId;
+	}
+
+	public void setLastProcessedEmpId(int lastProcessedEmpId) {
+		this.lastProcessedEmpId = lastProcessedEmpId;
+	}
+
+	public long getEmployeesProcessed() {
+		return employeesProcessed;
+	}
+
+	public void setEmployeesProcessed(long employeesProcessed) {
+		this.employeesProcessed = employeesProcessed;
+	}
+
+	public long getEmployeesTotal() {
+		return employeesTotal;
+	}
+
+	public void setEmployeesTotal(long employeesTotal) {
+		this.employeesTotal = employeesTotal;
+	}
+
+	public long getEmployeesUpdated() {
+		return employeesUpdated;
+	}
+
+	public void setEmployeesUpdated(long employeesUpdated) {
+		this.employeesUpdated = employeesUpdated;
+	}
+
+	public int getChunksCompleted() {
+		return chunksCompleted;
+	}
+
+	public void setChunksCompleted(int chunksCompleted) {
+		this.chunksCompleted = chunksCompleted;
+	}
+
+	public LocalDateTime getStartedAt() {
+		return startedAt;
+	}
+
+	public void setStartedAt(LocalDateTime startedAt) {
+		this.startedAt = startedAt;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(LocalDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+	public LocalDateTime getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(LocalDateTime finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+}
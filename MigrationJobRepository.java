@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.demo.model.MigrationJob;
+
+public interface MigrationJobRepository extends JpaRepository<MigrationJob, Long>{
+	
+	List<MigrationJob> findByStatus(String status);
+	
+	List<MigrationJob> findTop20ByOrderByIdDesc();
+
+}
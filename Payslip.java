@@ -25,7 +25,8 @@ public class Payslip {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payslip_seq")
-    @SequenceGenerator(name = "payslip_seq", sequenceName = "payslip_sequence_table", allocationSize = 1, initialValue = 1)
+    // IDs are reserved in blocks of 50 per sequence round trip (pooled-lo, see PersistenceConfig)
+    @SequenceGenerator(name = "payslip_seq", sequenceName = "payslip_sequence_table", allocationSize = 50, initialValue = 1)
     @Column(name = "payslip_id")
     private Long payslipId;
     
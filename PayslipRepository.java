@@ -1,15 +1,22 @@
 package com.example.demo.repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.demo.model.Payslip;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface PayslipRepository extends JpaRepository<Payslip, Long> {
     
@@ -116,6 +123,22 @@ public interface PayslipRepository extends JpaRepository<Payslip, Long> {
            "ORDER BY e.empId")
     List<Payslip> findByMonthAndYearWithDepartment(@Param("month") String month, @Param("year") String year);
     
+    /**
+     * Stream payslips for a month and year with employee and department information for export
+     * Rows are fetched from the driver in batches instead of being materialised as a list;
+     * must be consumed inside a transaction and closed after use
+     * @param month Month name
+     * @param year Year as string
+     * @return Stream of payslips ordered by employee ID
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p FROM Payslip p " +
+           "JOIN FETCH p.employee e " +
+           "LEFT JOIN FETCH e.department " +
+           "WHERE p.month = :month AND p.year = :year " +
+           "ORDER BY e.empId")
+    Stream<Payslip> streamByMonthAndYearWithDepartment(@Param("month") String month, @Param("year") String year);
+    
     /**
      * Batch find payslips by employee IDs with department information
      * Prevents N+1 queries when fetching payslips for multiple employees
@@ -143,6 +166,29 @@ public interface PayslipRepository extends JpaRepository<Payslip, Long> {
            "ORDER BY e.empId")
     List<Payslip> findLatestPayslipsForAllEmployeesWithDepartment();
     
+    /**
+     * Find IDs of all employees that already have a payslip for the given month/year
+     * Used by bulk payslip generation to skip existing payslips without a per-row lookup
+     * @param month Month name
+     * @param year Year as string
+     * @return List of employee IDs with an existing payslip for the period
+     */
+    @Query("SELECT p.employee.empId FROM Payslip p WHERE p.month = :month AND p.year = :year")
+    List<Integer> findEmployeeIdsWithPayslipForPeriod(@Param("month") String month, @Param("year") String year);
+    
+    /**
+     * Aggregate payroll totals for a month/year in a single query
+     * @param month Month name
+     * @param year Year as string
+     * @return Payslip count and salary totals for the period
+     */
+    @Query("SELECT COUNT(p) AS payslipCount, " +
+           "COALESCE(SUM(p.grossSalary), 0) AS totalGross, " +
+           "COALESCE(SUM(p.totalDeductions), 0) AS totalDeductions, " +
+           "COALESCE(SUM(p.netSalary), 0) AS totalNet " +
+           "FROM Payslip p WHERE p.month = :month AND p.year = :year")
+    PayrollTotals findPayrollTotalsForPeriod(@Param("month") String month, @Param("year") String year);
+    
     /**
      * Check if payslip exists for employee in specific month/year
      * @param empId Employee ID
@@ -151,4 +197,14 @@ public interface PayslipRepository extends JpaRepository<Payslip, Long> {
      * @return true if payslip exists, false otherwise
      */
     boolean existsByEmployeeEmpIdAndMonthAndYear(int empId, String month, String year);
+    
+    /**
+     * Projection of aggregated payroll totals for one period
+     */
+    interface PayrollTotals {
+        Long getPayslipCount();
+        BigDecimal getTotalGross();
+        BigDecimal getTotalDeductions();
+        BigDecimal getTotalNet();
+    }
 }
\ No newline at end of file
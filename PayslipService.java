@@ -1,5 +1,7 @@
 package com.example.demo.service;
 
+import java.util.List;
+
 import com.example.demo.dto.PayslipResponseDTO;
 import com.example.demo.model.Payslip;
 
@@ -39,7 +41,78 @@ public interface PayslipService {
     
     /**
      * Calculate and save payslips for all employees for the current month
-     * This method can be used for batch processing
+     * This method can be used for batch processing. Employees are processed in
+     * fixed-size chunks, each persisted in its own transaction.
+     * @return Bulk run result with per-chunk success/error details
+     */
+    BulkPayslipResult calculateAndSavePayslips();
+    
+    /**
+     * Bulk payslip run result class
+     */
+    class BulkPayslipResult {
+        private String month;
+        private String year;
+        private int totalEmployees;
+        private int generated;
+        private int skipped;
+        private int failed;
+        private long durationMs;
+        private List<ChunkResult> chunks;
+        
+        public BulkPayslipResult(String month, String year, int totalEmployees, int generated, int skipped,
+                                 int failed, long durationMs, List<ChunkResult> chunks) {
+            this.month = month;
+            this.year = year;
+            this.totalEmployees = totalEmployees;
+            this.generated = generated;
+            this.skipped = skipped;
+            this.failed = failed;
+            this.durationMs = durationMs;
+            this.chunks = chunks;
+        }
+        
+        // Getters
+        public String getMonth() { return month; }
+        public String getYear() { return year; }
+        public int getTotalEmployees() { return totalEmployees; }
+        public int getGenerated() { return generated; }
+        public int getSkipped() { return skipped; }
+        public int getFailed() { return failed; }
+        public long getDurationMs() { return durationMs; }
+        public List<ChunkResult> getChunks() { return chunks; }
+    }
+    
+    /**
+     * Result of a single chunk within a bulk payslip run
      */
-    void calculateAndSavePayslips();
+    class ChunkResult {
+        private int chunkIndex;
+        private int firstEmpId;
+        private int lastEmpId;
+        private int generated;
+        private int skipped;
+        private int failed;
+        private List<String> errors;
+        
+        public ChunkResult(int chunkIndex, int firstEmpId, int lastEmpId, int generated, int skipped,
+                           int failed, List<String> errors) {
+            this.chunkIndex = chunkIndex;
+            this.firstEmpId = firstEmpId;
+            this.lastEmpId = lastEmpId;
+            this.generated = generated;
+            this.skipped = skipped;
+            this.failed = failed;
+            this.errors = errors;
+        }
+        
+        // Getters
+        public int getChunkIndex() { return chunkIndex; }
+        public int getFirstEmpId() { return firstEmpId; }
+        public int getLastEmpId() { return lastEmpId; }
+        public int getGenerated() { return generated; }
+        public int getSkipped() { return skipped; }
+        public int getFailed() { return failed; }
+        public List<String> getErrors() { return errors; }
+    }
 }
\ No newline at end of file
@@ -1,18 +1,29 @@
 package com.example.demo.serviceimpl;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.demo.dto.PayslipResponseDTO;
 import com.example.demo.exception.DepartmentDataException;
@@ -25,6 +36,11 @@ import com.example.demo.repository.EmployeeRepository;
 import com.example.demo.repository.PayslipRepository;
 import com.example.demo.service.DepartmentValidationService;
 import com.example.demo.service.PayslipService;
+import com.example.demo.service.SalaryCalculator;
+import com.example.demo.service.SalaryCalculator.SalaryBreakdown;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 /**
  * Implementation of PayslipService with salary calculation logic.
@@ -45,44 +61,34 @@ public class PayslipServiceImpl implements PayslipService {
     @Autowired
     private DepartmentValidationService departmentValidationService;
     
-    // Salary calculation constants as per requirements
-    private static final BigDecimal BASIC_PAY_PERCENTAGE = new BigDecimal("0.60"); // 60% of total salary
-    private static final BigDecimal HRA_PERCENTAGE = new BigDecimal("0.30"); // 30% of basic pay
-    private static final BigDecimal MEDICAL_ALLOWANCE = new BigDecimal("2000.00"); // Fixed ₹2000
-    private static final BigDecimal TRANSPORT_ALLOWANCE = new BigDecimal("3000.00"); // Fixed ₹3000
-    private static final BigDecimal PF_PERCENTAGE = new BigDecimal("0.12"); // 12% of basic pay
-    private static final BigDecimal ESI_PERCENTAGE = new BigDecimal("0.0075"); // 0.75% of gross salary
-    private static final BigDecimal ESI_SALARY_LIMIT = new BigDecimal("25000.00"); // ESI applicable if gross ≤ ₹25000
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // Number of employees processed and persisted per transaction during bulk generation
+    @Value("${payroll.bulk.chunk-size:500}")
+    private int bulkChunkSize;
     
-    // Tax brackets for annual salary (simplified tax calculation)
-    private static final BigDecimal TAX_EXEMPT_LIMIT = new BigDecimal("250000.00"); // ₹2.5 lakh exempt
-    private static final BigDecimal TAX_RATE_5_PERCENT = new BigDecimal("0.05"); // 5% for 2.5L - 5L
-    private static final BigDecimal TAX_RATE_20_PERCENT = new BigDecimal("0.20"); // 20% for 5L - 10L
-    private static final BigDecimal TAX_RATE_30_PERCENT = new BigDecimal("0.30"); // 30% for above 10L
+    @Autowired
+    private SalaryCalculator salaryCalculator;
+    
+    // Fixed allowances shared by every payslip
+    private static final BigDecimal MEDICAL_ALLOWANCE = toRupees(SalaryCalculator.MEDICAL_ALLOWANCE_PAISE); // Fixed ₹2000
+    private static final BigDecimal TRANSPORT_ALLOWANCE = toRupees(SalaryCalculator.TRANSPORT_ALLOWANCE_PAISE); // Fixed ₹3000
     
     @Override
     public PayslipResponseDTO getPayslipByEmployeeId(int empId) {
         logger.info("Fetching payslip for employee ID: {}", empId);
         
         try {
-            // First check if employee exists using department-aware method
-            Optional<Employee> employeeOpt = employeeRepository.findByIdWithDepartment(empId);
-            if (!employeeOpt.isPresent()) {
+            // First check if employee exists; department integrity is covered by the integrity report
+            if (!employeeRepository.existsById(empId)) {
                 logger.warn("Employee not found with ID: {}", empId);
                 throw new EmployeeNotFoundException(empId);
             }
             
-            // Enhanced department validation and logging
-            Employee employee = employeeOpt.get();
-            try {
-                departmentValidationService.validateDepartmentData(employee);
-                String departmentName = departmentValidationService.handleDepartmentDataGracefully(employee, "get_payslip_by_employee_id");
-                logger.debug("Employee {} department: {}", empId, departmentName);
-            } catch (DepartmentDataException ex) {
-                logger.warn("Department validation failed for employee {} during payslip fetch: {}", empId, ex.getMessage());
-                departmentValidationService.logDepartmentIssue(empId, null, "VALIDATION_FAILED_PAYSLIP_FETCH");
-            }
-            
             // Try to find existing payslip (latest one) with department data
             Optional<Payslip> payslipOpt = payslipRepository.findLatestPayslipByEmployeeIdWithDepartment(empId);
             
@@ -119,25 +125,12 @@ public class PayslipServiceImpl implements PayslipService {
         logger.info("Fetching payslip for employee ID: {} for period: {} {}", empId, month, year);
         
         try {
-            // First check if employee exists using department-aware method
-            Optional<Employee> employeeOpt = employeeRepository.findByIdWithDepartment(empId);
-            if (!employeeOpt.isPresent()) {
+            // First check if employee exists; department integrity is covered by the integrity report
+            if (!employeeRepository.existsById(empId)) {
                 logger.warn("Employee not found with ID: {}", empId);
                 throw new EmployeeNotFoundException(empId);
             }
             
-            // Enhanced department validation and logging
-            Employee employee = employeeOpt.get();
-            try {
-                departmentValidationService.validateDepartmentData(employee);
-                String departmentName = departmentValidationService.handleDepartmentDataGracefully(employee, "get_payslip_by_period");
-                logger.debug("Employee {} department: {} for period {} {}", empId, departmentName, month, year);
-            } catch (DepartmentDataException ex) {
-                logger.warn("Department validation failed for employee {} during payslip fetch for period {} {}: {}", 
-                    empId, month, year, ex.getMessage());
-                departmentValidationService.logDepartmentIssue(empId, null, "VALIDATION_FAILED_PAYSLIP_PERIOD_FETCH");
-            }
-            
             // Try to find existing payslip for the specific period with department data
             Optional<Payslip> payslipOpt = payslipRepository.findByEmployeeIdAndMonthYearWithDepartment(empId, month, year);
             
@@ -227,8 +220,10 @@ public class PayslipServiceImpl implements PayslipService {
     }
     
     @Override
-    public void calculateAndSavePayslips() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkPayslipResult calculateAndSavePayslips() {
         logger.info("Starting bulk payslip generation for all employees");
+        long startTime = System.currentTimeMillis();
         
         try {
             // Get current month and year
@@ -240,35 +235,28 @@ public class PayslipServiceImpl implements PayslipService {
             List<Employee> employees = employeeRepository.findAllWithDepartment();
             logger.info("Found {} employees for payslip generation", employees.size());
             
-            int successCount = 0;
-            int errorCount = 0;
+            // Pre-load employees that already have a payslip for this period in one query
+            Set<Integer> existingEmpIds = new HashSet<>(
+                payslipRepository.findEmployeeIdsWithPayslipForPeriod(currentMonth, currentYear));
+            logger.info("{} employees already have a payslip for {} {}", existingEmpIds.size(), currentMonth, currentYear);
             
-            // Generate payslips for all employees with enhanced department validation
-            for (Employee employee : employees) {
-                try {
-                    // Enhanced department validation and logging during bulk generation
-                    try {
-                        departmentValidationService.validateDepartmentData(employee);
-                        String departmentName = departmentValidationService.handleDepartmentDataGracefully(employee, "bulk_payslip_generation");
-                        logger.debug("Generating payslip for employee {} in department: {}", 
-                            employee.getEmpId(), departmentName);
-                    } catch (DepartmentDataException ex) {
-                        logger.warn("Department validation failed for employee {} during bulk payslip generation: {}", 
-                            employee.getEmpId(), ex.getMessage());
-                        departmentValidationService.logDepartmentIssue(employee.getEmpId(), null, "VALIDATION_FAILED_BULK_GENERATION");
-                    }
-                    
-                    generatePayslipForEmployee(employee.getEmpId(), currentMonth, currentYear);
-                    successCount++;
-                } catch (Exception e) {
-                    // Log error but continue with other employees
-                    logger.error("Error generating payslip for employee {}: {}", employee.getEmpId(), e.getMessage(), e);
-                    departmentValidationService.logDepartmentIssue(employee.getEmpId(), null, "BULK_GENERATION_ERROR");
-                    errorCount++;
-                }
+            List<ChunkResult> chunkResults = new ArrayList<>();
+            int chunkIndex = 0;
+            for (int from = 0; from < employees.size(); from += bulkChunkSize) {
+                List<Employee> chunk = employees.subList(from, Math.min(from + bulkChunkSize, employees.size()));
+                chunkResults.add(processPayslipChunk(chunkIndex++, chunk, existingEmpIds, currentMonth, currentYear));
             }
             
-            logger.info("Bulk payslip generation completed. Success: {}, Errors: {}", successCount, errorCount);
+            int generated = chunkResults.stream().mapToInt(ChunkResult::getGenerated).sum();
+            int skipped = chunkResults.stream().mapToInt(ChunkResult::getSkipped).sum();
+            int failed = chunkResults.stream().mapToInt(ChunkResult::getFailed).sum();
+            long durationMs = System.currentTimeMillis() - startTime;
+            
+            logger.info("Bulk payslip generation completed in {} ms. Generated: {}, Skipped: {}, Errors: {}", 
+                durationMs, generated, skipped, failed);
+            
+            return new BulkPayslipResult(currentMonth, currentYear, employees.size(), 
+                generated, skipped, failed, durationMs, chunkResults);
             
         } catch (Exception ex) {
             logger.error("Error during bulk payslip generation", ex);
@@ -276,75 +264,95 @@ public class PayslipServiceImpl implements PayslipService {
         }
     }
     
+    /**
+     * Computes payslips for one chunk of employees in parallel and persists them
+     * in a single JDBC-batched transaction. A failure while saving rolls back only this chunk.
+     */
+    private ChunkResult processPayslipChunk(int chunkIndex, List<Employee> chunk, Set<Integer> existingEmpIds,
+                                            String month, String year) {
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        int firstEmpId = chunk.get(0).getEmpId();
+        int lastEmpId = chunk.get(chunk.size() - 1).getEmpId();
+        
+        List<Employee> pending = chunk.stream()
+            .filter(employee -> !existingEmpIds.contains(employee.getEmpId()))
+            .collect(Collectors.toList());
+        int skipped = chunk.size() - pending.size();
+        
+        // Salary calculation is pure CPU work, so spread it across cores
+        List<Payslip> payslips = pending.parallelStream()
+            .map(employee -> {
+                try {
+                    departmentValidationService.validateDepartmentData(employee);
+                } catch (DepartmentDataException ex) {
+                    logger.warn("Department validation failed for employee {} during bulk payslip generation: {}", 
+                        employee.getEmpId(), ex.getMessage());
+                    departmentValidationService.logDepartmentIssue(employee.getEmpId(), null, "VALIDATION_FAILED_BULK_GENERATION");
+                }
+                
+                try {
+                    Payslip payslip = new Payslip(employee, month, year);
+                    calculateSalaryComponents(payslip, employee.getSalary());
+                    return payslip;
+                } catch (Exception e) {
+                    // Log error but continue with other employees
+                    logger.error("Error calculating payslip for employee {}: {}", employee.getEmpId(), e.getMessage());
+                    departmentValidationService.logDepartmentIssue(employee.getEmpId(), null, "BULK_GENERATION_ERROR");
+                    errors.add("Employee " + employee.getEmpId() + ": " + e.getMessage());
+                    return null;
+                }
+            })
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        
+        int generated = 0;
+        if (!payslips.isEmpty()) {
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(bulkChunkSize);
+                    payslipRepository.saveAll(payslips);
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                generated = payslips.size();
+                payslips.forEach(payslip -> existingEmpIds.add(payslip.getEmployee().getEmpId()));
+            } catch (Exception e) {
+                logger.error("Error saving payslip chunk {} (employees {}-{}): {}", 
+                    chunkIndex, firstEmpId, lastEmpId, e.getMessage(), e);
+                errors.add("Chunk save failed: " + e.getMessage());
+            }
+        }
+        
+        int failed = pending.size() - generated;
+        logger.info("Payslip chunk {} (employees {}-{}) completed. Generated: {}, Skipped: {}, Errors: {}", 
+            chunkIndex, firstEmpId, lastEmpId, generated, skipped, failed);
+        return new ChunkResult(chunkIndex, firstEmpId, lastEmpId, generated, skipped, failed, new ArrayList<>(errors));
+    }
+    
     /**
      * Calculate all salary components based on employee's base salary
-     * Implements requirements 3.1 through 3.10
+     * Implements requirements 3.1 through 3.10 using the fixed-point SalaryCalculator
      */
     private void calculateSalaryComponents(Payslip payslip, float employeeSalary) {
         logger.debug("Calculating salary components for employee salary: {}", employeeSalary);
         
         try {
-            if (employeeSalary <= 0) {
-                throw new PayslipCalculationException("Invalid employee salary: " + employeeSalary);
-            }
-            
-            BigDecimal totalSalary = new BigDecimal(String.valueOf(employeeSalary));
+            SalaryBreakdown breakdown = salaryCalculator.calculate(employeeSalary);
             
-            // Requirement 3.1: Basic pay = 60% of total salary
-            BigDecimal basicPay = totalSalary.multiply(BASIC_PAY_PERCENTAGE).setScale(2, RoundingMode.HALF_UP);
-            payslip.setBasicPay(basicPay);
-            
-            // Requirement 3.2: HRA = 30% of basic pay
-            BigDecimal hra = basicPay.multiply(HRA_PERCENTAGE).setScale(2, RoundingMode.HALF_UP);
-            payslip.setHra(hra);
-            
-            // Requirement 3.3: Medical allowance = ₹2000 (fixed)
+            payslip.setBasicPay(toRupees(breakdown.getBasicPay()));
+            payslip.setHra(toRupees(breakdown.getHra()));
             payslip.setMedicalAllowance(MEDICAL_ALLOWANCE);
-            
-            // Requirement 3.4: Transport allowance = ₹3000 (fixed)
             payslip.setTransportAllowance(TRANSPORT_ALLOWANCE);
-            
-            // Other allowances (default to 0)
             payslip.setOtherAllowances(BigDecimal.ZERO);
-            
-            // Requirement 3.8: Gross salary = sum of all earnings
-            BigDecimal grossSalary = basicPay
-                .add(hra)
-                .add(MEDICAL_ALLOWANCE)
-                .add(TRANSPORT_ALLOWANCE)
-                .add(payslip.getOtherAllowances());
-            payslip.setGrossSalary(grossSalary);
-            
-            // Requirement 3.5: PF = 12% of basic pay
-            BigDecimal pf = basicPay.multiply(PF_PERCENTAGE).setScale(2, RoundingMode.HALF_UP);
-            payslip.setPf(pf);
-            
-            // Requirement 3.6: ESI = 0.75% of gross salary (if gross ≤ ₹25000)
-            BigDecimal esi = BigDecimal.ZERO;
-            if (grossSalary.compareTo(ESI_SALARY_LIMIT) <= 0) {
-                esi = grossSalary.multiply(ESI_PERCENTAGE).setScale(2, RoundingMode.HALF_UP);
-            }
-            payslip.setEsi(esi);
-            
-            // Requirement 3.7: Tax deductions based on annual salary
-            BigDecimal taxDeductions = calculateTaxDeductions(totalSalary);
-            payslip.setTaxDeductions(taxDeductions);
-            
-            // Other deductions (default to 0)
+            payslip.setGrossSalary(toRupees(breakdown.getGrossSalary()));
+            payslip.setPf(toRupees(breakdown.getPf()));
+            payslip.setEsi(breakdown.getEsi() == 0 ? BigDecimal.ZERO : toRupees(breakdown.getEsi()));
+            payslip.setTaxDeductions(toRupees(breakdown.getTaxDeductions()));
             payslip.setOtherDeductions(BigDecimal.ZERO);
+            payslip.setTotalDeductions(toRupees(breakdown.getTotalDeductions()));
+            payslip.setNetSalary(toRupees(breakdown.getNetSalary()));
             
-            // Requirement 3.9: Total deductions = sum of all deductions
-            BigDecimal totalDeductions = pf
-                .add(esi)
-                .add(taxDeductions)
-                .add(payslip.getOtherDeductions());
-            payslip.setTotalDeductions(totalDeductions);
-            
-            // Requirement 3.10: Net salary = gross salary - total deductions
-            BigDecimal netSalary = grossSalary.subtract(totalDeductions);
-            payslip.setNetSalary(netSalary);
-            
-            logger.debug("Successfully calculated salary components. Net salary: {}", netSalary);
+            logger.debug("Successfully calculated salary components. Net salary: {}", payslip.getNetSalary());
             
         } catch (PayslipCalculationException ex) {
             throw ex; // Re-throw custom exceptions
@@ -355,45 +363,9 @@ public class PayslipServiceImpl implements PayslipService {
     }
     
     /**
-     * Calculate tax deductions based on annual salary using standard tax brackets
-     * This is a simplified tax calculation for demonstration
+     * Convert an amount in paise to a rupee BigDecimal with scale 2
      */
-    private BigDecimal calculateTaxDeductions(BigDecimal monthlySalary) {
-        // Convert monthly to annual salary
-        BigDecimal annualSalary = monthlySalary.multiply(new BigDecimal("12"));
-        
-        BigDecimal annualTax = BigDecimal.ZERO;
-        
-        // Tax calculation based on brackets
-        if (annualSalary.compareTo(TAX_EXEMPT_LIMIT) > 0) {
-            // Calculate tax for different brackets
-            BigDecimal taxableAmount = annualSalary.subtract(TAX_EXEMPT_LIMIT);
-            
-            // 5% tax bracket (2.5L - 5L)
-            BigDecimal bracket1Limit = new BigDecimal("250000.00"); // 2.5L additional
-            if (taxableAmount.compareTo(bracket1Limit) > 0) {
-                annualTax = annualTax.add(bracket1Limit.multiply(TAX_RATE_5_PERCENT));
-                taxableAmount = taxableAmount.subtract(bracket1Limit);
-                
-                // 20% tax bracket (5L - 10L)
-                BigDecimal bracket2Limit = new BigDecimal("500000.00"); // 5L additional
-                if (taxableAmount.compareTo(bracket2Limit) > 0) {
-                    annualTax = annualTax.add(bracket2Limit.multiply(TAX_RATE_20_PERCENT));
-                    taxableAmount = taxableAmount.subtract(bracket2Limit);
-                    
-                    // 30% tax bracket (above 10L)
-                    annualTax = annualTax.add(taxableAmount.multiply(TAX_RATE_30_PERCENT));
-                } else {
-                    annualTax = annualTax.add(taxableAmount.multiply(TAX_RATE_20_PERCENT));
-                }
-            } else {
-                annualTax = annualTax.add(taxableAmount.multiply(TAX_RATE_5_PERCENT));
-            }
-        }
-        
-        // Convert annual tax to monthly tax deduction
-        BigDecimal monthlyTax = annualTax.divide(new BigDecimal("12"), 2, RoundingMode.HALF_UP);
-        
-        return monthlyTax;
+    private static BigDecimal toRupees(long paise) {
+        return BigDecimal.valueOf(paise, 2);
     }
 }
\ No newline at end of file
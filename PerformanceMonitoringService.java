@@ -15,6 +15,13 @@ public interface PerformanceMonitoringService {
      */
     void recordQueryTime(String queryType, long executionTimeMs);
     
+    /**
+     * Record query execution time with nanosecond precision
+     * @param queryType Type of query (e.g., "findEmployeeWithDepartment")
+     * @param executionTimeNanos Execution time in nanoseconds
+     */
+    void recordQueryTimeNanos(String queryType, long executionTimeNanos);
+    
     /**
      * Record cache hit/miss statistics
      * @param cacheName Name of the cache
@@ -40,7 +47,8 @@ public interface PerformanceMonitoringService {
     Map<String, Object> getCacheStats();
     
     /**
-     * Get query performance statistics
+     * Get query performance statistics, including latency percentiles
+     * (p50/p90/p99/p999/max) over the recent sliding window
      * @return Map containing query performance metrics
      */
     Map<String, Object> getQueryStats();
@@ -3,10 +3,12 @@ package com.example.demo.serviceimpl;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.example.demo.service.PerformanceMonitoringService;
@@ -24,14 +26,32 @@ public class PerformanceMonitoringServiceImpl implements PerformanceMonitoringSe
     private final Map<String, AtomicLong> queryExecutionTimes = new ConcurrentHashMap<>();
     private final Map<String, AtomicLong> queryExecutionCounts = new ConcurrentHashMap<>();
     
+    // Latency distribution per query type over the recent sliding window
+    private final Map<String, LatencyHistogram> queryLatencyHistograms = new ConcurrentHashMap<>();
+    
+    @Value("${app.performance.window-minutes:5}")
+    private int windowMinutes;
+    
     // Cache performance tracking
     private final Map<String, AtomicLong> cacheHits = new ConcurrentHashMap<>();
     private final Map<String, AtomicLong> cacheMisses = new ConcurrentHashMap<>();
     
     @Override
     public void recordQueryTime(String queryType, long executionTimeMs) {
+        recordQueryTimeNanos(queryType, TimeUnit.MILLISECONDS.toNanos(executionTimeMs));
+    }
+    
+    @Override
+    public void recordQueryTimeNanos(String queryType, long executionTimeNanos) {
+        long executionTimeMs = TimeUnit.NANOSECONDS.toMillis(executionTimeNanos);
+        long executionTimeMicros = TimeUnit.NANOSECONDS.toMicros(executionTimeNanos);
+        int window = Math.max(1, windowMinutes);
+        queryLatencyHistograms.computeIfAbsent(queryType,
+                k -> new LatencyHistogram(TimeUnit.MINUTES.toMillis(window), window))
+                .record(executionTimeMicros);
+        // Total execution time is kept in microseconds so fast queries don't average to zero
         queryExecutionTimes.computeIfAbsent(queryType, k -> new AtomicLong(0))
-                          .addAndGet(executionTimeMs);
+                          .addAndGet(executionTimeMicros);
         queryExecutionCounts.computeIfAbsent(queryType, k -> new AtomicLong(0))
                            .incrementAndGet();
         
@@ -67,6 +87,7 @@ public class PerformanceMonitoringServiceImpl implements PerformanceMonitoringSe
         logger.info("Resetting performance statistics");
         queryExecutionTimes.clear();
         queryExecutionCounts.clear();
+        queryLatencyHistograms.clear();
         cacheHits.clear();
         cacheMisses.clear();
     }
@@ -108,7 +129,7 @@ public class PerformanceMonitoringServiceImpl implements PerformanceMonitoringSe
             long count = queryExecutionCounts.get(queryType).get();
             
             if (count > 0) {
-                double averageTime = (double) totalTime / count;
+                double averageTime = (double) totalTime / count / 1000.0;
                 averageQueryTimes.put(queryType, averageTime);
             }
         }
@@ -121,6 +142,13 @@ public class PerformanceMonitoringServiceImpl implements PerformanceMonitoringSe
                         (map, entry) -> map.put(entry.getKey(), entry.getValue().get()),
                         HashMap::putAll));
         
+        // Latency percentiles (in milliseconds) over the sliding window
+        Map<String, Object> latencyPercentiles = new HashMap<>();
+        queryLatencyHistograms.forEach((queryType, histogram) -> 
+                latencyPercentiles.put(queryType, histogram.snapshot().toMillisSummary()));
+        queryStats.put("latencyPercentiles", latencyPercentiles);
+        queryStats.put("windowMinutes", windowMinutes);
+        
         return queryStats;
     }
 }
\ No newline at end of file
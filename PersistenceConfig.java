@@ -0,0 +1,63 @@
+package com.example.demo.config;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.service.DatabaseConcurrencyLimiter;
+
+/**
+ * Hibernate settings for identifier allocation and JDBC insert batching.
+ * Sequence generators with an allocationSize above 1 use the pooled-lo optimizer, which treats the
+ * stored sequence value as the first ID of the next block. Existing sequence tables therefore keep
+ * handing out IDs above the ones already issued, and initialValue remains the first ID of an empty table.
+ * Values already set through spring.jpa.properties take precedence.
+ * The application DataSource is wrapped in a ConcurrencyLimitedDataSource so DatabaseConcurrencyLimiter
+ * bounds every connection borrowed from the pool.
+ */
+@Configuration
+public class PersistenceConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceConfig.class);
+    
+    @Value("${app.persistence.jdbc-batch-size:50}")
+    private int jdbcBatchSize;
+    
+    // Static so the post-processor does not force this configuration to be created early
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            ObjectProvider<DatabaseConcurrencyLimiter> limiterProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource((DataSource) bean, limiterProvider);
+                }
+                return bean;
+            }
+        };
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer identifierAndBatchingCustomizer() {
+        return (Map<String, Object> properties) -> {
+            properties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, jdbcBatchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            logger.info("Hibernate identifier optimizer: {}, JDBC batch size: {}",
+                properties.get(AvailableSettings.PREFERRED_POOLED_OPTIMIZER),
+                properties.get(AvailableSettings.STATEMENT_BATCH_SIZE));
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.config;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.LeaveRepository;
+import com.example.demo.repository.PayslipRepository;
+import com.example.demo.service.PerformanceMonitoringService;
+
+/**
+ * Aspect that times every repository call and records it with the PerformanceMonitoringService
+ * under a stable "Type.method" query name. Service-layer timing lives in ServiceTimingAspect.
+ */
+@Aspect
+@Component
+public class QueryTimingAspect {
+    
+    private static final List<Class<?>> REPOSITORY_TYPES = List.of(
+        EmployeeRepository.class, PayslipRepository.class, DepartmentRepository.class, LeaveRepository.class);
+    
+    @Autowired
+    private PerformanceMonitoringService performanceMonitoringService;
+    
+    // Query names are resolved once per repository/method pair
+    private final Map<String, Map<Method, String>> queryNames = new ConcurrentHashMap<>();
+    
+    @Around("this(com.example.demo.repository.EmployeeRepository) || "
+          + "this(com.example.demo.repository.PayslipRepository) || "
+          + "this(com.example.demo.repository.DepartmentRepository) || "
+          + "this(com.example.demo.repository.LeaveRepository)")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repositoryName = repositoryNameOf(joinPoint.getThis());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String queryName = queryNames.computeIfAbsent(repositoryName, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(method, m -> repositoryName + "." + m.getName());
+        return proceedTimed(joinPoint, queryName);
+    }
+    
+    private Object proceedTimed(ProceedingJoinPoint joinPoint, String queryName) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            performanceMonitoringService.recordQueryTimeNanos(queryName, System.nanoTime() - start);
+        }
+    }
+    
+    private static String repositoryNameOf(Object proxy) {
+        for (Class<?> type : REPOSITORY_TYPES) {
+            if (type.isInstance(proxy)) {
+                return type.getSimpleName();
+            }
+        }
+        return proxy.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.demo.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.exception.PayslipCalculationException;
+
+/**
+ * Allocation-light salary computation engine.
+ * Works on fixed-point paise (long) internally and produces the same HALF_UP rounded
+ * results as the BigDecimal formulas in requirements 3.1-3.10.
+ */
+@Component
+public class SalaryCalculator {
+
+    // Fixed components in paise
+    public static final long MEDICAL_ALLOWANCE_PAISE = 200000L; // Fixed ₹2000
+    public static final long TRANSPORT_ALLOWANCE_PAISE = 300000L; // Fixed ₹3000
+    public static final long ESI_SALARY_LIMIT_PAISE = 2500000L; // ESI applicable if gross ≤ ₹25000
+
+    // Rates expressed as integer numerators
+    private static final long BASIC_PAY_PERCENT = 60; // 60% of total salary
+    private static final long HRA_PERCENT = 30; // 30% of basic pay
+    private static final long PF_PERCENT = 12; // 12% of basic pay
+    private static final long ESI_BASIS_POINTS = 75; // 0.75% of gross salary
+
+    // Annual tax bracket table: lower bound (rupees), rate (percent) and the tax accumulated
+    // below the lower bound (rupees x 100). Computed once from the bracket widths.
+    private static final long[] BRACKET_LOWER_BOUND = {0L, 250000L, 500000L, 1000000L};
+    private static final long[] BRACKET_RATE_PERCENT = {0L, 5L, 20L, 30L};
+    private static final long[] BRACKET_BASE_TAX;
+
+    // Maximum number of fraction digits accepted from the float salary representation
+    private static final int MAX_SCALE = 9;
+    private static final long[] POW10 = new long[MAX_SCALE + 1];
+
+    static {
+        POW10[0] = 1L;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POW10[i] = POW10[i - 1] * 10L;
+        }
+
+        BRACKET_BASE_TAX = new long[BRACKET_LOWER_BOUND.length];
+        for (int i = 1; i < BRACKET_LOWER_BOUND.length; i++) {
+            long width = BRACKET_LOWER_BOUND[i] - BRACKET_LOWER_BOUND[i - 1];
+            BRACKET_BASE_TAX[i] = BRACKET_BASE_TAX[i - 1] + width * BRACKET_RATE_PERCENT[i - 1];
+        }
+    }
+
+    /**
+     * Calculate all salary components for a monthly salary
+     * @param employeeSalary Monthly salary as stored on the employee
+     * @return Salary breakdown in paise
+     * @throws PayslipCalculationException if the salary is not positive
+     */
+    public SalaryBreakdown calculate(float employeeSalary) {
+        if (!(employeeSalary > 0)) {
+            throw new PayslipCalculationException("Invalid employee salary: " + employeeSalary);
+        }
+
+        // Exact decimal value of the salary as unscaled / 10^scale, matching new BigDecimal(String.valueOf(f))
+        String text = Float.toString(employeeSalary);
+        int scale = scaleOf(text);
+        long unscaled = unscaledValueOf(text);
+        long pow = POW10[scale];
+
+        // Requirement 3.1: Basic pay = 60% of total salary
+        long basicPay = roundHalfUp(unscaled * BASIC_PAY_PERCENT, pow);
+
+        // Requirement 3.2: HRA = 30% of basic pay
+        long hra = roundHalfUp(basicPay * HRA_PERCENT, 100L);
+
+        // Requirement 3.8: Gross salary = sum of all earnings
+        long grossSalary = basicPay + hra + MEDICAL_ALLOWANCE_PAISE + TRANSPORT_ALLOWANCE_PAISE;
+
+        // Requirement 3.5: PF = 12% of basic pay
+        long pf = roundHalfUp(basicPay * PF_PERCENT, 100L);
+
+        // Requirement 3.6: ESI = 0.75% of gross salary (if gross ≤ ₹25000)
+        long esi = grossSalary <= ESI_SALARY_LIMIT_PAISE ? roundHalfUp(grossSalary * ESI_BASIS_POINTS, 10000L) : 0L;
+
+        // Requirement 3.7: Tax deductions based on annual salary
+        long taxDeductions = monthlyTax(unscaled * 12L, scale);
+
+        // Requirement 3.9 and 3.10: Total deductions and net salary
+        long totalDeductions = pf + esi + taxDeductions;
+        long netSalary = grossSalary - totalDeductions;
+
+        return new SalaryBreakdown(basicPay, hra, grossSalary, pf, esi, taxDeductions, totalDeductions, netSalary);
+    }
+
+    /**
+     * Calculate the monthly tax deduction in paise for a monthly salary
+     * @param employeeSalary Monthly salary as stored on the employee
+     * @return Monthly tax deduction in paise
+     */
+    public long calculateMonthlyTax(float employeeSalary) {
+        String text = Float.toString(employeeSalary);
+        int scale = scaleOf(text);
+        return monthlyTax(unscaledValueOf(text) * 12L, scale);
+    }
+
+    /**
+     * Monthly tax in paise for an annual salary of annualUnscaled / 10^scale rupees
+     */
+    private long monthlyTax(long annualUnscaled, int scale) {
+        long pow = POW10[scale];
+
+        int bracket = 0;
+        for (int i = BRACKET_LOWER_BOUND.length - 1; i > 0; i--) {
+            if (annualUnscaled > BRACKET_LOWER_BOUND[i] * pow) {
+                bracket = i;
+                break;
+            }
+        }
+
+        // Annual tax in units of 10^-(scale + 2) rupees
+        long annualTax = BRACKET_BASE_TAX[bracket] * pow
+            + (annualUnscaled - BRACKET_LOWER_BOUND[bracket] * pow) * BRACKET_RATE_PERCENT[bracket];
+
+        // Convert annual tax to monthly tax deduction in paise
+        return roundHalfUp(annualTax, 12L * pow);
+    }
+
+    /**
+     * Divide two non-negative values rounding half up
+     */
+    private static long roundHalfUp(long dividend, long divisor) {
+        return (2 * dividend + divisor) / (2 * divisor);
+    }
+
+    private static int scaleOf(String text) {
+        if (text.indexOf('E') >= 0) {
+            throw new PayslipCalculationException("Salary out of supported range: " + text);
+        }
+        int dot = text.indexOf('.');
+        int scale = dot < 0 ? 0 : text.length() - dot - 1;
+        if (scale > MAX_SCALE) {
+            throw new PayslipCalculationException("Salary precision out of supported range: " + text);
+        }
+        return scale;
+    }
+
+    private static long unscaledValueOf(String text) {
+        long value = 0L;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '.') {
+                value = value * 10L + (c - '0');
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Salary components of one payslip, all amounts in paise
+     */
+    public static final class SalaryBreakdown {
+        private final long basicPay;
+        private final long hra;
+        private final long grossSalary;
+        private final long pf;
+        private final long esi;
+        private final long taxDeductions;
+        private final long totalDeductions;
+        private final long netSalary;
+
+        public SalaryBreakdown(long basicPay, long hra, long grossSalary, long pf, long esi,
+                               long taxDeductions, long totalDeductions, long netSalary) {
+            this.basicPay = basicPay;
+            this.hra = hra;
+            this.grossSalary = grossSalary;
+            this.pf = pf;
+            this.esi = esi;
+            this.taxDeductions = taxDeductions;
+            this.totalDeductions = totalDeductions;
+            this.netSalary = netSalary;
+        }
+
+        // Getters
+        public long getBasicPay() { return basicPay; }
+        public long getHra() { return hra; }
+        public long getGrossSalary() { return grossSalary; }
+        public long getPf() { return pf; }
+        public long getEsi() { return esi; }
+        public long getTaxDeductions() { return taxDeductions; }
+        public long getTotalDeductions() { return totalDeductions; }
+        public long getNetSalary() { return netSalary; }
+    }
+}
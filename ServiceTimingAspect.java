@@ -0,0 +1,47 @@
+package com.example.demo.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.PerformanceMonitoringService;
+
+/**
+ * Aspect that times every service implementation call and records it with the
+ * PerformanceMonitoringService under a stable "Type.method" name.
+ * Only registered with app.performance.trace-services=true, so service beans are not proxied otherwise.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.performance.trace-services", havingValue = "true")
+public class ServiceTimingAspect {
+    
+    @Autowired
+    private PerformanceMonitoringService performanceMonitoringService;
+    
+    // Names are resolved once per service/method pair
+    private final Map<String, Map<Method, String>> serviceNames = new ConcurrentHashMap<>();
+    
+    @Around("within(com.example.demo.serviceimpl..*) && !within(com.example.demo.serviceimpl.PerformanceMonitoringServiceImpl)")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String typeName = method.getDeclaringClass().getSimpleName();
+        String name = serviceNames.computeIfAbsent(typeName, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(method, m -> typeName + "." + m.getName());
+        
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            performanceMonitoringService.recordQueryTimeNanos(name, System.nanoTime() - start);
+        }
+    }
+}
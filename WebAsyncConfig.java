@@ -0,0 +1,31 @@
+package com.example.demo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Async request timeout for Spring MVC.
+ * The streamed CSV/NDJSON exports run as async requests, and the container default (30 seconds on Tomcat)
+ * would cut a large export off mid-stream, so the timeout is set explicitly via app.web.async-timeout-ms.
+ * The CompletableFuture endpoints are not affected in practice: executeWithRetryAsync completes them
+ * within its own deadline (app.database.async.default-deadline-ms).
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(WebAsyncConfig.class);
+    
+    // Longest a streamed export may run before the container closes the response
+    @Value("${app.web.async-timeout-ms:1800000}")
+    private long asyncTimeoutMs;
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        logger.info("Async request timeout: {} ms", asyncTimeoutMs);
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+}
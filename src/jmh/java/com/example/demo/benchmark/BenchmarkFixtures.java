@@ -0,0 +1,84 @@
+package com.example.demo.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.example.demo.model.Department;
+import com.example.demo.model.Employee;
+import com.example.demo.model.Payslip;
+
+/**
+ * Deterministic test data shared by the JMH benchmarks
+ */
+final class BenchmarkFixtures {
+    
+    private static final String[] DEPARTMENT_NAMES = {
+        "Information Technology", "Human Resources", "Finance", "Marketing",
+        "Operations", "Sales", "Quality Assurance", "Research and Development"
+    };
+    
+    private BenchmarkFixtures() {
+    }
+    
+    /**
+     * Build employees spread across the default departments; every tenth employee has no department
+     */
+    static List<Employee> employees(int count) {
+        Random random = new Random(42);
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENT_NAMES.length; i++) {
+            Department department = new Department();
+            department.setDeptId(i + 1);
+            department.setDeptName(DEPARTMENT_NAMES[i]);
+            department.setDescription(DEPARTMENT_NAMES[i] + " Department");
+            departments.add(department);
+        }
+        
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Employee employee = new Employee();
+            employee.setEmpId(1000 + i);
+            employee.setEmpName("Employee " + i);
+            employee.setPhoneNo(String.valueOf(9000000000L + i));
+            employee.setEmail("employee" + i + "@example.com");
+            employee.setPassword("aB12345678");
+            employee.setRole(i % 5 == 0 ? "Manager" : "Software Engineer");
+            employee.setManagerId(1000);
+            employee.setSalary(salaries(1, random)[0]);
+            employee.setAddress("Street " + i);
+            employee.setJoiningDate(LocalDate.of(2020, 1, 1).plusDays(i % 1500));
+            employee.setGender(i % 2 == 0 ? "Male" : "Female");
+            employee.setDepartment(i % 10 == 9 ? null : departments.get(i % departments.size()));
+            employees.add(employee);
+        }
+        return employees;
+    }
+    
+    /**
+     * Random salaries within the @Min(10000)/@Max(2500000) employee salary range
+     */
+    static float[] salaries(int count, Random random) {
+        float[] salaries = new float[count];
+        for (int i = 0; i < count; i++) {
+            salaries[i] = Math.round((10000 + random.nextDouble() * 2490000) * 100) / 100.0f;
+        }
+        return salaries;
+    }
+    
+    static Payslip payslip(Employee employee) {
+        Payslip payslip = new Payslip(employee, "January", "2025");
+        payslip.setBasicPay(new BigDecimal("30000.00"));
+        payslip.setHra(new BigDecimal("9000.00"));
+        payslip.setMedicalAllowance(new BigDecimal("2000.00"));
+        payslip.setTransportAllowance(new BigDecimal("3000.00"));
+        payslip.setGrossSalary(new BigDecimal("44000.00"));
+        payslip.setPf(new BigDecimal("3600.00"));
+        payslip.setTaxDeductions(new BigDecimal("1041.67"));
+        payslip.setTotalDeductions(new BigDecimal("4641.67"));
+        payslip.setNetSalary(new BigDecimal("39358.33"));
+        return payslip;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.demo.model.Employee;
+import com.example.demo.service.DepartmentValidationService;
+
+/**
+ * Benchmark for the per-employee department validation path (read endpoints before the integrity report replaced it)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DepartmentValidationBenchmark {
+    
+    private DepartmentValidationService departmentValidationService;
+    private List<Employee> employees;
+    
+    @Setup
+    public void setup() {
+        departmentValidationService = new DepartmentValidationService();
+        employees = BenchmarkFixtures.employees(1000);
+    }
+    
+    @Benchmark
+    public void validateAndResolveDepartment(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            departmentValidationService.validateDepartmentData(employee);
+            blackhole.consume(departmentValidationService.handleDepartmentDataGracefully(employee, "benchmark"));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.demo.dto.EmployeeResponseDTO;
+import com.example.demo.dto.PayslipResponseDTO;
+import com.example.demo.model.Employee;
+import com.example.demo.model.Payslip;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Benchmarks for DTO conversion and JSON serialization of the /employee/api/all payload
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMappingBenchmark {
+    
+    @Param({"100", "10000"})
+    public int employeeCount;
+    
+    private List<Employee> employees;
+    private Payslip payslip;
+    private ObjectMapper objectMapper;
+    
+    @Setup
+    public void setup() {
+        employees = BenchmarkFixtures.employees(employeeCount);
+        payslip = BenchmarkFixtures.payslip(employees.get(0));
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+    
+    @Benchmark
+    public void employeeDtoConversion(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(EmployeeResponseDTO.fromEmployee(employee));
+        }
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public PayslipResponseDTO payslipDtoConversion() {
+        return PayslipResponseDTO.fromPayslip(payslip);
+    }
+    
+    @Benchmark
+    public byte[] allEmployeesJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.demo.model.Employee;
+import com.example.demo.service.EmployeeInputValidator;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Benchmarks for employee input validation: String.matches and bean validation against the
+ * precompiled EmployeeInputValidator. Run with -prof gc to compare per-call allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeValidationBenchmark {
+    
+    private static final int EMPLOYEE_COUNT = 1024;
+    
+    private EmployeeInputValidator employeeInputValidator;
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private List<Employee> employees;
+    private int index;
+    
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        employeeInputValidator = new EmployeeInputValidator(beanValidator);
+        employees = BenchmarkFixtures.employees(EMPLOYEE_COUNT);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+    
+    private Employee nextEmployee() {
+        index = (index + 1) & (EMPLOYEE_COUNT - 1);
+        return employees.get(index);
+    }
+    
+    // Availability checks as previously written in EmployeeServiceImpl
+    @Benchmark
+    public void availabilityChecksStringMatches(Blackhole blackhole) {
+        Employee employee = nextEmployee();
+        blackhole.consume(employee.getEmail().matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"));
+        blackhole.consume(employee.getPhoneNo().matches("^[0-9]{10}$"));
+    }
+    
+    @Benchmark
+    public void availabilityChecksPrecompiled(Blackhole blackhole) {
+        Employee employee = nextEmployee();
+        blackhole.consume(employeeInputValidator.isValidEmail(employee.getEmail()));
+        blackhole.consume(employeeInputValidator.isValidPhone(employee.getPhoneNo()));
+    }
+    
+    // Per-row bean validation as previously used by the bulk import
+    @Benchmark
+    public Object employeeBeanValidation() {
+        return beanValidator.validate(nextEmployee());
+    }
+    
+    @Benchmark
+    public Object employeeInputValidator() {
+        return employeeInputValidator.validate(nextEmployee());
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object batchInputValidator() {
+        return employeeInputValidator.validate(employees);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.demo.service.SalaryCalculator;
+
+/**
+ * Benchmarks for salary component calculation and tax bracket evaluation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollBenchmark {
+    
+    private static final int SALARY_COUNT = 1024;
+    
+    private SalaryCalculator salaryCalculator;
+    private float[] salaries;
+    private int index;
+    
+    @Setup
+    public void setup() {
+        salaryCalculator = new SalaryCalculator();
+        salaries = BenchmarkFixtures.salaries(SALARY_COUNT, new Random(42));
+    }
+    
+    private float nextSalary() {
+        index = (index + 1) & (SALARY_COUNT - 1);
+        return salaries[index];
+    }
+    
+    @Benchmark
+    public Object salaryComponents() {
+        return salaryCalculator.calculate(nextSalary());
+    }
+    
+    @Benchmark
+    public long taxBracketEvaluation() {
+        return salaryCalculator.calculateMonthlyTax(nextSalary());
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void salaryComponentsBulk(Blackhole blackhole) {
+        for (float salary : salaries) {
+            blackhole.consume(salaryCalculator.calculate(salary));
+        }
+    }
+}
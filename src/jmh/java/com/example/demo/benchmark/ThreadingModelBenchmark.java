@@ -0,0 +1,111 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Load comparison of platform-thread and virtual-thread request handling against a fixed-size
+ * connection pool. Each simulated request blocks for waitMillis without holding a connection
+ * (remote call, retry backoff) and then for queryMillis while holding one of poolSize permits.
+ * The platform variant uses Tomcat's default of 200 worker threads.
+ * Requires JDK 21: mvn -Pbenchmark,virtual-threads package && java -jar target/benchmarks.jar ThreadingModel
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadingModelBenchmark {
+    
+    private static final int PLATFORM_WORKER_THREADS = 200;
+    
+    @Param({"200", "2000"})
+    private int concurrentRequests;
+    
+    @Param({"10"})
+    private int poolSize;
+    
+    @Param({"0", "20", "100"})
+    private int waitMillis;
+    
+    @Param({"2"})
+    private int queryMillis;
+    
+    private ExecutorService platformExecutor;
+    private Executor virtualExecutor;
+    private Semaphore connections;
+    
+    @Setup
+    public void setup() {
+        platformExecutor = Executors.newFixedThreadPool(PLATFORM_WORKER_THREADS);
+        virtualExecutor = new VirtualThreadTaskExecutor("bench-");
+        connections = new Semaphore(poolSize, true);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        platformExecutor.shutdownNow();
+    }
+    
+    @Benchmark
+    public void platformThreads() throws InterruptedException {
+        runBatch(platformExecutor);
+    }
+    
+    @Benchmark
+    public void virtualThreads() throws InterruptedException {
+        runBatch(virtualExecutor);
+    }
+    
+    /**
+     * Submit one burst of requests and wait until all have completed
+     */
+    private void runBatch(Executor executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            executor.execute(() -> {
+                try {
+                    handleRequest();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+    
+    private void handleRequest() {
+        try {
+            if (waitMillis > 0) {
+                Thread.sleep(waitMillis);
+            }
+            connections.acquire();
+            try {
+                Thread.sleep(queryMillis);
+            } finally {
+                connections.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
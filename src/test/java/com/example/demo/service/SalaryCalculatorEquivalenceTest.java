@@ -0,0 +1,169 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.service.SalaryCalculator.SalaryBreakdown;
+
+/**
+ * Checks SalaryCalculator against the HALF_UP BigDecimal formulas it replaced, over the
+ * employee salary range allowed by Employee (@Min(10000) / @Max(2500000)).
+ * The legacy formulas are kept inline below as the oracle.
+ */
+class SalaryCalculatorEquivalenceTest {
+
+    private static final float MIN_SALARY = 10000f;
+    private static final float MAX_SALARY = 2500000f;
+    private static final int RANDOM_SAMPLES = 200_000;
+    // Floats checked on each side of every boundary
+    private static final int ULPS_AROUND_BOUNDARY = 64;
+
+    private final SalaryCalculator calculator = new SalaryCalculator();
+
+    @Test
+    void matchesLegacyFormulasForRandomSalaries() {
+        SplittableRandom random = new SplittableRandom(20240601L);
+        for (int i = 0; i < RANDOM_SAMPLES; i++) {
+            float salary = MIN_SALARY + (float) (random.nextDouble() * (MAX_SALARY - MIN_SALARY));
+            assertEquivalent(Math.min(salary, MAX_SALARY));
+        }
+    }
+
+    @Test
+    void matchesLegacyFormulasAroundBoundaries() {
+        List<Float> boundaries = new ArrayList<>();
+        boundaries.add(MIN_SALARY);
+        boundaries.add(MAX_SALARY);
+        // Monthly salaries whose annual salary sits on a tax bracket boundary
+        boundaries.add(250000f / 12);
+        boundaries.add(500000f / 12);
+        boundaries.add(1000000f / 12);
+        // Monthly salary whose gross salary sits on the ESI limit: 0.78 * salary + 5000 = 25000
+        boundaries.add(20000f / 0.78f);
+
+        for (float boundary : boundaries) {
+            float salary = boundary;
+            for (int i = 0; i < ULPS_AROUND_BOUNDARY; i++) {
+                salary = Math.nextDown(salary);
+            }
+            for (int i = 0; i <= 2 * ULPS_AROUND_BOUNDARY; i++) {
+                if (salary >= MIN_SALARY && salary <= MAX_SALARY) {
+                    assertEquivalent(salary);
+                }
+                salary = Math.nextUp(salary);
+            }
+        }
+    }
+
+    @Test
+    void matchesLegacyFormulasForWholeRupeeSalaries() {
+        for (int rupees = (int) MIN_SALARY; rupees <= (int) MAX_SALARY; rupees += 997) {
+            assertEquivalent(rupees);
+        }
+    }
+
+    private void assertEquivalent(float salary) {
+        SalaryBreakdown actual = calculator.calculate(salary);
+        LegacyBreakdown expected = LegacyBreakdown.of(salary);
+        String context = "salary " + salary;
+
+        assertEquals(expected.basicPay, actual.getBasicPay(), context + " basicPay");
+        assertEquals(expected.hra, actual.getHra(), context + " hra");
+        assertEquals(expected.grossSalary, actual.getGrossSalary(), context + " grossSalary");
+        assertEquals(expected.pf, actual.getPf(), context + " pf");
+        assertEquals(expected.esi, actual.getEsi(), context + " esi");
+        assertEquals(expected.taxDeductions, actual.getTaxDeductions(), context + " taxDeductions");
+        assertEquals(expected.totalDeductions, actual.getTotalDeductions(), context + " totalDeductions");
+        assertEquals(expected.netSalary, actual.getNetSalary(), context + " netSalary");
+        assertEquals(expected.taxDeductions, calculator.calculateMonthlyTax(salary), context + " calculateMonthlyTax");
+    }
+
+    /**
+     * The BigDecimal payslip formulas previously in PayslipServiceImpl, with results converted to paise
+     */
+    private static final class LegacyBreakdown {
+        private static final BigDecimal BASIC_PAY_PERCENTAGE = new BigDecimal("0.60");
+        private static final BigDecimal HRA_PERCENTAGE = new BigDecimal("0.30");
+        private static final BigDecimal MEDICAL_ALLOWANCE = new BigDecimal("2000.00");
+        private static final BigDecimal TRANSPORT_ALLOWANCE = new BigDecimal("3000.00");
+        private static final BigDecimal PF_PERCENTAGE = new BigDecimal("0.12");
+        private static final BigDecimal ESI_PERCENTAGE = new BigDecimal("0.0075");
+        private static final BigDecimal ESI_SALARY_LIMIT = new BigDecimal("25000.00");
+        private static final BigDecimal TAX_EXEMPT_LIMIT = new BigDecimal("250000.00");
+        private static final BigDecimal TAX_RATE_5_PERCENT = new BigDecimal("0.05");
+        private static final BigDecimal TAX_RATE_20_PERCENT = new BigDecimal("0.20");
+        private static final BigDecimal TAX_RATE_30_PERCENT = new BigDecimal("0.30");
+
+        private long basicPay;
+        private long hra;
+        private long grossSalary;
+        private long pf;
+        private long esi;
+        private long taxDeductions;
+        private long totalDeductions;
+        private long netSalary;
+
+        static LegacyBreakdown of(float employeeSalary) {
+            BigDecimal totalSalary = new BigDecimal(String.valueOf(employeeSalary));
+            BigDecimal basicPay = totalSalary.multiply(BASIC_PAY_PERCENTAGE).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal hra = basicPay.multiply(HRA_PERCENTAGE).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal grossSalary = basicPay.add(hra).add(MEDICAL_ALLOWANCE).add(TRANSPORT_ALLOWANCE);
+            BigDecimal pf = basicPay.multiply(PF_PERCENTAGE).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal esi = BigDecimal.ZERO;
+            if (grossSalary.compareTo(ESI_SALARY_LIMIT) <= 0) {
+                esi = grossSalary.multiply(ESI_PERCENTAGE).setScale(2, RoundingMode.HALF_UP);
+            }
+            BigDecimal taxDeductions = monthlyTax(totalSalary);
+            BigDecimal totalDeductions = pf.add(esi).add(taxDeductions);
+            BigDecimal netSalary = grossSalary.subtract(totalDeductions);
+
+            LegacyBreakdown result = new LegacyBreakdown();
+            result.basicPay = paise(basicPay);
+            result.hra = paise(hra);
+            result.grossSalary = paise(grossSalary);
+            result.pf = paise(pf);
+            result.esi = paise(esi);
+            result.taxDeductions = paise(taxDeductions);
+            result.totalDeductions = paise(totalDeductions);
+            result.netSalary = paise(netSalary);
+            return result;
+        }
+
+        private static BigDecimal monthlyTax(BigDecimal monthlySalary) {
+            BigDecimal annualSalary = monthlySalary.multiply(new BigDecimal("12"));
+            BigDecimal annualTax = BigDecimal.ZERO;
+
+            if (annualSalary.compareTo(TAX_EXEMPT_LIMIT) > 0) {
+                BigDecimal taxableAmount = annualSalary.subtract(TAX_EXEMPT_LIMIT);
+                BigDecimal bracket1Limit = new BigDecimal("250000.00");
+                if (taxableAmount.compareTo(bracket1Limit) > 0) {
+                    annualTax = annualTax.add(bracket1Limit.multiply(TAX_RATE_5_PERCENT));
+                    taxableAmount = taxableAmount.subtract(bracket1Limit);
+                    BigDecimal bracket2Limit = new BigDecimal("500000.00");
+                    if (taxableAmount.compareTo(bracket2Limit) > 0) {
+                        annualTax = annualTax.add(bracket2Limit.multiply(TAX_RATE_20_PERCENT));
+                        taxableAmount = taxableAmount.subtract(bracket2Limit);
+                        annualTax = annualTax.add(taxableAmount.multiply(TAX_RATE_30_PERCENT));
+                    } else {
+                        annualTax = annualTax.add(taxableAmount.multiply(TAX_RATE_20_PERCENT));
+                    }
+                } else {
+                    annualTax = annualTax.add(taxableAmount.multiply(TAX_RATE_5_PERCENT));
+                }
+            }
+
+            return annualTax.divide(new BigDecimal("12"), 2, RoundingMode.HALF_UP);
+        }
+
+        private static long paise(BigDecimal rupees) {
+            return rupees.movePointRight(2).longValueExact();
+        }
+    }
+}